@@ -0,0 +1,143 @@
+/**
+ * This class benchmarks the pieces of the Rush Hour solver's inner loop.
+ *
+ * @version 1.0
+ *
+ * File: HotPathBenchmark.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: JMH micro-benchmarks of state encoding, successor generation,
+ * visited table inserts and lookups, path reconstruction, and turning the
+ * packed moves of a SolveResult into Move objects. The setup runs one full
+ * search of the chosen game and keeps every state it reached, so each
+ * benchmark works on the same realistic set of states the solver sees. Every
+ * benchmark returns a value so JMH cannot throw the work away.
+ */
+
+package rushhour;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HotPathBenchmark
+{
+    @Param({"game35.dat"})
+    public String fileName;
+
+    private ArrayList<Vehicle> vehicles;
+    private PackedBoard packed;
+    private long[] states;
+    private long[] successors;
+    private StateTable filledTable;
+    private SearchWorkspace solvedWork;
+    private int winningIndex;
+    private Puzzle puzzle;
+    private int[] path;
+
+    @Setup
+    public void setUp()
+        throws FileNotFoundException
+    {
+        this.puzzle = Puzzle.read(this.fileName);
+        this.vehicles = this.puzzle.vehicles();
+
+        this.solvedWork = new SearchWorkspace(this.puzzle);
+        this.winningIndex = Solver.search(this.solvedWork);
+        this.packed = this.solvedWork.packed;
+        this.filledTable = this.solvedWork.states;
+
+        this.states = new long[this.filledTable.size()];
+        for (int i = 0; i < this.states.length; i++)
+        {
+            this.states[i] = this.filledTable.key(i);
+        }
+
+        this.successors = new long[this.packed.maxSuccessors()];
+        this.path = Solver.reconstructPath(this.solvedWork, this.winningIndex);
+    }
+
+    @Benchmark
+    public long encodeState()
+    {
+        return this.packed.encode(this.vehicles);
+    }
+
+    @Benchmark
+    public int generateSuccessors()
+    {
+        int total = 0;
+
+        for (long state : this.states)
+        {
+            total += this.packed.successors(state, this.successors);
+        }
+
+        return total;
+    }
+
+    @Benchmark
+    public int insertStates()
+    {
+        StateTable table = new StateTable(16);
+
+        for (int i = 0; i < this.states.length; i++)
+        {
+            table.add(this.states[i], i - 1);
+        }
+
+        return table.size();
+    }
+
+    @Benchmark
+    public int lookUpStates()
+    {
+        int found = 0;
+
+        for (long state : this.states)
+        {
+            if (this.filledTable.indexOf(state) >= 0)
+            {
+                found++;
+            }
+        }
+
+        return found;
+    }
+
+    @Benchmark
+    public int[] reconstructPath()
+    {
+        return Solver.reconstructPath(this.solvedWork, this.winningIndex);
+    }
+
+    @Benchmark
+    public List<Move> materializeMoves()
+    {
+        // a fresh result every time, since moves() keeps what it builds
+        SolveResult result = new SolveResult(true, this.path, this.puzzle,
+            new SearchStatistics(0, 0, 0));
+
+        return result.moves();
+    }
+}
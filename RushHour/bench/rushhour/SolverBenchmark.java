@@ -0,0 +1,59 @@
+/**
+ * This class benchmarks whole solves of the bundled Rush Hour games.
+ *
+ * @version 1.0
+ *
+ * File: SolverBenchmark.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: JMH benchmark of Solver.solve on each game*.dat file, from a
+ * parsed Puzzle to a SolveResult. Run with "ant bench" from the project
+ * directory so the puzzle files can be found.
+ */
+
+package rushhour;
+
+import java.io.FileNotFoundException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolverBenchmark
+{
+    @Param({"game1.dat", "game2.dat", "game35.dat", "game36.dat"})
+    public String fileName;
+
+    private Puzzle puzzle;
+    private Solver solver;
+
+    @Setup
+    public void setUp()
+        throws FileNotFoundException
+    {
+        this.puzzle = Puzzle.read(this.fileName);
+        this.solver = new Solver();
+    }
+
+    @Benchmark
+    public SolveResult solve()
+    {
+        return this.solver.solve(this.puzzle);
+    }
+}
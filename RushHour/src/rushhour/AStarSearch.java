@@ -0,0 +1,173 @@
+/**
+ * This class is the A* search mode of the Rush Hour solver.
+ *
+ * @version 1.0
+ *
+ * File: AStarSearch.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: Instead of expanding every state up to the solution depth,
+ * A* always expands a state with the smallest number of moves so far plus
+ * BlockingHeuristic estimate. Move counts are small integers, so the open list
+ * is an array of StateQueue buckets indexed by that sum. The heuristic is
+ * admissible but not always consistent, so a state reached again by a shorter
+ * path is given its new parent and queued again; the first solved state taken
+ * off the open list is then optimal.
+ *
+ * Each estimated solution length is one level of the search, finished when
+ * its bucket is used up.
+ */
+
+package rushhour;
+
+import java.util.Arrays;
+
+class AStarSearch
+{
+    /**
+     * Runs the A* search in a fresh workspace.
+     *
+     * @param work the workspace of the puzzle to solve
+     * @return the index of the solved state found, or NO_PARENT if the red car
+     * cannot escape
+     */
+    static int search(SearchWorkspace work)
+    {
+        PackedBoard packed = work.packed;
+        StateTable states = work.states;
+        long[] successors = work.successors;
+        BlockingHeuristic heuristic = new BlockingHeuristic(packed);
+
+        // moves from the start and estimate to the exit, by state index
+        int[] moves = new int[1024];
+        int[] estimates = new int[1024];
+
+        StateQueue[] buckets = new StateQueue[64];
+
+        long start = packed.encode(work.puzzle.vehicles());
+        int startIndex = states.add(start, StateTable.NO_PARENT);
+        moves[startIndex] = 0;
+        estimates[startIndex] = heuristic.estimate(start);
+        buckets = push(buckets, estimates[startIndex], startIndex);
+
+        // the entries in every bucket, stale ones included
+        int open = 1;
+        work.peakFrontier = 1;
+
+        int lowest = estimates[startIndex];
+
+        // the highest bound reported as a level; an inconsistent estimate can
+        // send lowest back below it, and a bound is only ever reported once
+        int reported = -1;
+
+        while (lowest < buckets.length)
+        {
+            if ((buckets[lowest] == null) || buckets[lowest].isEmpty())
+            {
+                if ((buckets[lowest] != null) && (lowest > reported))
+                {
+                    work.endLevel(open);
+                    reported = lowest;
+                }
+
+                lowest++;
+                continue;
+            }
+
+            int index = buckets[lowest].poll();
+            open--;
+
+            // skip entries left behind when a shorter path was found
+            if (moves[index] + estimates[index] != lowest)
+            {
+                continue;
+            }
+
+            long state = states.key(index);
+
+            if (packed.isSolved(state))
+            {
+                if (lowest > reported)
+                {
+                    work.endLevel(open);
+                }
+
+                return index;
+            }
+
+            int count = packed.successors(state, successors);
+            work.expanded++;
+            work.generated += count;
+
+            for (int k = 0; k < count; k++)
+            {
+                int nextMoves = moves[index] + 1;
+                int next = states.add(successors[k], index);
+
+                if (next >= 0)
+                {
+                    if (next == moves.length)
+                    {
+                        moves = Arrays.copyOf(moves, next * 2);
+                        estimates = Arrays.copyOf(estimates, next * 2);
+                    }
+
+                    estimates[next] = heuristic.estimate(successors[k]);
+                }
+                else
+                {
+                    next = states.indexOf(successors[k]);
+
+                    if (nextMoves >= moves[next])
+                    {
+                        work.duplicates++;
+                        continue;
+                    }
+
+                    states.setParent(next, index);
+                }
+
+                moves[next] = nextMoves;
+
+                int f = nextMoves + estimates[next];
+                buckets = push(buckets, f, next);
+                open++;
+                work.peakFrontier = Math.max(work.peakFrontier, open);
+
+                // an inconsistent estimate can put a state below the bucket
+                // being worked on
+                lowest = Math.min(lowest, f);
+            }
+        }
+
+        return StateTable.NO_PARENT;
+    }
+
+    /**
+     * Adds a state index to the bucket for its estimated solution length.
+     *
+     * @param buckets the buckets, indexed by estimated solution length
+     * @param f the estimated solution length
+     * @param index the state index
+     * @return the buckets, grown if f did not fit
+     */
+    private static StateQueue[] push(StateQueue[] buckets, int f, int index)
+    {
+        if (f >= buckets.length)
+        {
+            buckets = Arrays.copyOf(buckets, Math.max(f + 1,
+                buckets.length * 2));
+        }
+
+        if (buckets[f] == null)
+        {
+            buckets[f] = new StateQueue(64);
+        }
+
+        buckets[f].add(index);
+
+        return buckets;
+    }
+}
@@ -0,0 +1,363 @@
+/**
+ * This class solves many Rush Hour puzzles at once.
+ *
+ * @version 1.0
+ *
+ * File: BatchSolver.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: This class takes puzzle files and directories of puzzle files,
+ * solves every puzzle on a pool of worker threads sharing one Solver, and
+ * prints one line per puzzle in the order the puzzles were given. The work
+ * queue is bounded; when it is full the submitting thread solves the puzzle
+ * itself, so a huge batch never piles up in memory.
+ *
+ * Puzzles can also be streamed out of one-line-per-puzzle corpus files with
+ * runCorpus, which never holds more of a corpus in memory than the puzzles
+ * waiting to be solved.
+ *
+ * On the command line, run as java -jar RushHour.jar --batch [file|dir]...
+ * or java -jar RushHour.jar --corpus [file]...
+ */
+
+package rushhour;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BatchSolver
+{
+    public BatchSolver(Solver solver, int threads)
+    {
+        this.solver = solver;
+        this.threads = threads;
+    }
+
+    final private Solver solver;
+    final private int threads;
+
+    /**
+     * Solves every puzzle named by the given paths.
+     *
+     * @param paths puzzle files, every puzzle of which is solved in file
+     * order, or directories whose .dat files are solved in name order
+     * @param out where the result lines are printed
+     * @return the number of puzzles that were solved
+     * @throws InterruptedException thrown if the thread is interrupted while
+     * waiting for a result
+     */
+    public int run(List<String> paths, PrintStream out)
+        throws InterruptedException
+    {
+        ThreadPoolExecutor pool = this.newPool();
+
+        // results are printed in order as soon as the oldest one is done
+        ArrayDeque<Future<String>> pending = new ArrayDeque<>();
+        AtomicInteger solvedCount = new AtomicInteger();
+
+        try
+        {
+            for (File file : puzzleFiles(paths))
+            {
+                this.submitFile(pool, pending, file, solvedCount, out);
+            }
+
+            while (!pending.isEmpty())
+            {
+                printResult(pending.poll(), out);
+            }
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+
+        return solvedCount.get();
+    }
+
+    /**
+     * Solves every puzzle of some one-line-per-puzzle corpus files, reading
+     * each file a window at a time with a CorpusReader.
+     *
+     * @param corpusFiles the corpus files
+     * @param out where the result lines are printed
+     * @return the number of puzzles that were solved
+     * @throws InterruptedException thrown if the thread is interrupted while
+     * waiting for a result
+     * @throws IOException thrown if a corpus file cannot be read
+     */
+    public int runCorpus(List<String> corpusFiles, PrintStream out)
+        throws InterruptedException, IOException
+    {
+        ThreadPoolExecutor pool = this.newPool();
+        ArrayDeque<Future<String>> pending = new ArrayDeque<>();
+        AtomicInteger solvedCount = new AtomicInteger();
+
+        try
+        {
+            for (String fileName : corpusFiles)
+            {
+                try (CorpusReader reader = new CorpusReader(fileName))
+                {
+                    while (reader.hasNext())
+                    {
+                        Callable<String> task;
+
+                        try
+                        {
+                            task = this.task(reader.next(), solvedCount);
+                        }
+                        catch (IllegalArgumentException ex)
+                        {
+                            // a bad line is reported in its place in the
+                            // output and the corpus carries on
+                            task = message(ex.getMessage());
+                        }
+
+                        this.submit(pool, pending, task, out);
+                    }
+                }
+            }
+
+            while (!pending.isEmpty())
+            {
+                printResult(pending.poll(), out);
+            }
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+
+        return solvedCount.get();
+    }
+
+    private ThreadPoolExecutor newPool()
+    {
+        return new ThreadPoolExecutor(this.threads, this.threads, 0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<Runnable>(this.threads * 4),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Starts a job and prints every result that is ready, in order.
+     *
+     * @param pool the worker threads
+     * @param pending the results not printed yet, oldest first
+     * @param task the job to start
+     * @param out where the result lines are printed
+     * @throws InterruptedException thrown if interrupted while waiting
+     */
+    private void submit(ThreadPoolExecutor pool,
+        ArrayDeque<Future<String>> pending, Callable<String> task,
+        PrintStream out)
+        throws InterruptedException
+    {
+        pending.add(pool.submit(task));
+
+        // one slow puzzle must not let finished results pile up without end
+        while (!pending.isEmpty() && (pending.peek().isDone()
+            || (pending.size() > this.threads * 16)))
+        {
+            printResult(pending.poll(), out);
+        }
+    }
+
+    /**
+     * Reads a puzzle file and starts a job for every puzzle in it.
+     *
+     * @param pool the worker threads
+     * @param pending the results not printed yet, oldest first
+     * @param file the puzzle file
+     * @param solvedCount counts the puzzles that turn out to be solvable
+     * @param out where the result lines are printed
+     * @throws InterruptedException thrown if interrupted while waiting
+     */
+    private void submitFile(ThreadPoolExecutor pool,
+        ArrayDeque<Future<String>> pending, File file,
+        AtomicInteger solvedCount, PrintStream out)
+        throws InterruptedException
+    {
+        PuzzleParser parser;
+
+        try
+        {
+            parser = new PuzzleParser(PuzzleParser.load(file.getPath()),
+                file.getPath());
+        }
+        catch (FileNotFoundException ex)
+        {
+            this.submit(pool, pending,
+                message(file.getPath() + ": file not found"), out);
+            return;
+        }
+
+        if (!parser.hasNext())
+        {
+            this.submit(pool, pending,
+                message(file.getPath() + ": no puzzles"), out);
+        }
+
+        while (parser.hasNext())
+        {
+            Callable<String> task;
+
+            try
+            {
+                task = this.task(parser.next(), solvedCount);
+            }
+            catch (IllegalArgumentException ex)
+            {
+                // a puzzle cut short ends its file but not the batch
+                task = message(ex.getMessage());
+            }
+
+            this.submit(pool, pending, task, out);
+        }
+    }
+
+    /**
+     * Makes the job that solves a puzzle that has already been read.
+     *
+     * @param puzzle the puzzle
+     * @param solvedCount counts the puzzles that turn out to be solvable
+     * @return a job producing the result line for the puzzle
+     */
+    private Callable<String> task(final Puzzle puzzle,
+        final AtomicInteger solvedCount)
+    {
+        return new Callable<String>()
+        {
+            @Override
+            public String call()
+            {
+                try
+                {
+                    return describe(puzzle.name(), solver.solve(puzzle),
+                        solvedCount);
+                }
+                catch (RuntimeException ex)
+                {
+                    return puzzle.name() + ": error " + ex;
+                }
+            }
+        };
+    }
+
+    /**
+     * Makes a job whose result line is already known.
+     *
+     * @param line the result line
+     * @return a job producing the line
+     */
+    private static Callable<String> message(final String line)
+    {
+        return new Callable<String>()
+        {
+            @Override
+            public String call()
+            {
+                return line;
+            }
+        };
+    }
+
+    /**
+     * Builds the result line of one puzzle.
+     *
+     * @param name the name printed for the puzzle
+     * @param result the result of solving it
+     * @param solvedCount counted up if the puzzle was solved
+     * @return the line
+     */
+    private static String describe(String name, SolveResult result,
+        AtomicInteger solvedCount)
+    {
+        if (result.isSolved())
+        {
+            solvedCount.incrementAndGet();
+            return name + ": " + result.length() + " moves, "
+                + result.statistics();
+        }
+        else
+        {
+            return name + ": unsolved, " + result.statistics();
+        }
+    }
+
+    /**
+     * Waits for one result and prints it.
+     *
+     * @param result the pending result line
+     * @param out where the line is printed
+     * @throws InterruptedException thrown if interrupted while waiting
+     */
+    private static void printResult(Future<String> result, PrintStream out)
+        throws InterruptedException
+    {
+        try
+        {
+            out.println(result.get());
+        }
+        catch (ExecutionException ex)
+        {
+            out.println("error: " + ex.getCause());
+        }
+    }
+
+    /**
+     * Expands the given paths into a list of puzzle files.
+     *
+     * @param paths puzzle files and directories
+     * @return the files, with each directory replaced by its .dat files
+     */
+    static List<File> puzzleFiles(List<String> paths)
+    {
+        ArrayList<File> files = new ArrayList<>();
+
+        for (String path : paths)
+        {
+            File file = new File(path);
+
+            if (file.isDirectory())
+            {
+                File[] children = file.listFiles();
+
+                if (children != null)
+                {
+                    Arrays.sort(children);
+
+                    for (File child : children)
+                    {
+                        if (child.isFile() && child.getName().endsWith(".dat"))
+                        {
+                            files.add(child);
+                        }
+                    }
+                }
+            }
+            else
+            {
+                files.add(file);
+            }
+        }
+
+        return files;
+    }
+}
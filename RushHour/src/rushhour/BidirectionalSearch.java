@@ -0,0 +1,329 @@
+/**
+ * This class is the bidirectional search mode of the Rush Hour solver.
+ *
+ * @version 1.0
+ *
+ * File: BidirectionalSearch.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: One breadth first search grows forward from the starting
+ * state while another grows backward from every solved state, and the path
+ * is found where they meet. Moves can always be undone, so the backward
+ * search uses the same successors as the forward one.
+ *
+ * The solved states to start from are every placement of the other vehicles,
+ * with the red car at the exit, in which each vehicle is somewhere it could
+ * ever reach. Those places are found by widening each vehicle's range of
+ * dynamic values one space at a time until it runs into a wall or a square
+ * that some other vehicle covers in every position of its own range. Some of
+ * these states may not be reachable, but every reachable solved state is
+ * among them.
+ *
+ * Each step expands a whole level of whichever side has the smaller level,
+ * and every new state is looked up in the other side's table. The first
+ * level that produces a meeting gives an optimal solution. If there are more
+ * than MAX_GOALS solved states to start from, the plain breadth first search
+ * is used instead.
+ */
+
+package rushhour;
+
+import java.util.Arrays;
+
+class BidirectionalSearch
+{
+    /**
+     * The most solved states the backward search may start from.
+     */
+    static final int MAX_GOALS = 1 << 20;
+
+    /**
+     * Runs the bidirectional search in a fresh workspace.
+     *
+     * @param work the workspace of the puzzle to solve
+     * @return the index of the solved state found, or NO_PARENT if the red car
+     * cannot escape
+     */
+    static int search(SearchWorkspace work)
+    {
+        PackedBoard packed = work.packed;
+        long start = packed.encode(work.puzzle.vehicles());
+
+        if (packed.redIndex() < 0)
+        {
+            return StateTable.NO_PARENT;
+        }
+
+        if (packed.isSolved(start))
+        {
+            return work.addPath(new long[] {start}, 0);
+        }
+
+        int[] low = new int[packed.numCars()];
+        int[] high = new int[packed.numCars()];
+        reachableRanges(packed, start, low, high);
+
+        int red = packed.redIndex();
+        if ((low[red] > PackedBoard.EXIT_OFFSET)
+            || (high[red] < PackedBoard.EXIT_OFFSET))
+        {
+            return StateTable.NO_PARENT;
+        }
+
+        Side forward = new Side(work.storage);
+        Side backward = new Side(work.storage);
+
+        forward.states.add(start, StateTable.NO_PARENT);
+        forward.endLevel();
+
+        low[red] = PackedBoard.EXIT_OFFSET;
+        high[red] = PackedBoard.EXIT_OFFSET;
+
+        if (!addGoals(packed, low, high, 0, 0, packed.walls(),
+            backward.states))
+        {
+            return Solver.search(work);
+        }
+        backward.endLevel();
+
+        long[] successors = work.successors;
+        long meeting = -1;
+
+        while ((meeting == -1) && !forward.isDone() && !backward.isDone())
+        {
+            Side expanding = (forward.levelSize() <= backward.levelSize())
+                ? forward
+                : backward;
+            Side other = (expanding == forward) ? backward : forward;
+
+            for (int index = expanding.levelStart();
+                index < expanding.levelEnd(); index++)
+            {
+                long state = expanding.states.key(index);
+                int count = packed.successors(state, successors);
+                work.expanded++;
+                work.generated += count;
+
+                for (int k = 0; k < count; k++)
+                {
+                    if (expanding.states.add(successors[k], index) < 0)
+                    {
+                        work.duplicates++;
+                    }
+                    // only a state new to this side can be a new meeting
+                    else if ((meeting == -1)
+                        && other.states.contains(successors[k]))
+                    {
+                        meeting = successors[k];
+                    }
+                }
+            }
+
+            expanding.endLevel();
+            work.visited = forward.states.size() + backward.states.size();
+            work.endLevel(forward.levelSize() + backward.levelSize());
+        }
+
+        work.visited = forward.states.size() + backward.states.size();
+        work.tableSize = work.visited;
+        work.tableCapacity = forward.states.capacity()
+            + backward.states.capacity();
+
+        if (meeting == -1)
+        {
+            return StateTable.NO_PARENT;
+        }
+
+        // the forward half runs backward from the meeting, so flip it
+        long[] forwardHalf = forward.pathFrom(meeting);
+        long[] backwardHalf = backward.pathFrom(meeting);
+        long[] path = new long[forwardHalf.length + backwardHalf.length - 1];
+
+        for (int i = 0; i < forwardHalf.length; i++)
+        {
+            path[i] = forwardHalf[forwardHalf.length - 1 - i];
+        }
+        System.arraycopy(backwardHalf, 1, path, forwardHalf.length,
+            backwardHalf.length - 1);
+
+        return work.addPath(path, path.length - 1);
+    }
+
+    /**
+     * Finds the range of dynamic values each vehicle could ever have.
+     *
+     * @param packed the packed board
+     * @param start the starting state
+     * @param low filled with the smallest dynamic value of each vehicle
+     * @param high filled with the largest dynamic value of each vehicle
+     */
+    static void reachableRanges(PackedBoard packed, long start, int[] low,
+        int[] high)
+    {
+        int numCars = packed.numCars();
+
+        for (int i = 0; i < numCars; i++)
+        {
+            low[i] = packed.offset(start, i);
+            high[i] = low[i];
+        }
+
+        boolean changed = true;
+
+        while (changed)
+        {
+            changed = false;
+
+            for (int i = 0; i < numCars; i++)
+            {
+                // walls, and squares another vehicle covers wherever it is in
+                // its range
+                long blocked = packed.walls();
+
+                for (int j = 0; j < numCars; j++)
+                {
+                    if (j != i)
+                    {
+                        blocked |= packed.cells(j, low[j])
+                            & packed.cells(j, high[j]);
+                    }
+                }
+
+                while ((low[i] > 0) && ((blocked & PackedBoard.bit(
+                    packed.square(i, low[i] - 1))) == 0))
+                {
+                    low[i]--;
+                    changed = true;
+                }
+
+                while ((high[i] + packed.length(i) < 6) && ((blocked
+                    & PackedBoard.bit(packed.square(i, high[i]
+                    + packed.length(i)))) == 0))
+                {
+                    high[i]++;
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds every non-overlapping placement of the remaining vehicles.
+     *
+     * @param packed the packed board
+     * @param low the smallest dynamic value of each vehicle
+     * @param high the largest dynamic value of each vehicle
+     * @param i the next vehicle to place
+     * @param state the dynamic values of the vehicles placed so far
+     * @param occupied the squares covered by the vehicles placed so far
+     * @param goals the table the finished states are added to
+     * @return false if there turned out to be more than MAX_GOALS states
+     */
+    private static boolean addGoals(PackedBoard packed, int[] low, int[] high,
+        int i, long state, long occupied, StateTable goals)
+    {
+        if (i == packed.numCars())
+        {
+            goals.add(state, StateTable.NO_PARENT);
+            return goals.size() <= MAX_GOALS;
+        }
+
+        for (int offset = low[i]; offset <= high[i]; offset++)
+        {
+            long cells = packed.cells(i, offset);
+
+            if (((occupied & cells) == 0) && !addGoals(packed, low, high,
+                i + 1, packed.move(state, i, offset), occupied | cells, goals))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * One direction of the search: its states and where each level ends.
+     */
+    private static class Side
+    {
+        Side(PathStorage storage)
+        {
+            this.states = new StateTable(1024, storage);
+            this.levelEnds = new int[16];
+            this.levels = 0;
+        }
+
+        final StateTable states;
+        private int[] levelEnds;
+        private int levels;
+
+        /**
+         * Marks every state added so far as belonging to a finished level.
+         */
+        void endLevel()
+        {
+            if (this.levels == this.levelEnds.length)
+            {
+                this.levelEnds = Arrays.copyOf(this.levelEnds,
+                    this.levels * 2);
+            }
+
+            this.levelEnds[this.levels++] = this.states.size();
+        }
+
+        int levelStart()
+        {
+            return (this.levels < 2) ? 0 : this.levelEnds[this.levels - 2];
+        }
+
+        int levelEnd()
+        {
+            return this.levelEnds[this.levels - 1];
+        }
+
+        int levelSize()
+        {
+            return this.levelEnd() - this.levelStart();
+        }
+
+        /**
+         * Tells whether the last level was empty, so nothing is left to
+         * expand.
+         *
+         * @return true if this side has run out of states
+         */
+        boolean isDone()
+        {
+            return this.levelSize() == 0;
+        }
+
+        /**
+         * Follows parents from a state back to where this side began.
+         *
+         * @param key the packed state
+         * @return the states from key back to this side's first level
+         */
+        long[] pathFrom(long key)
+        {
+            int index = this.states.indexOf(key);
+            long[] path = new long[16];
+            int length = 0;
+
+            while (index != StateTable.NO_PARENT)
+            {
+                if (length == path.length)
+                {
+                    path = Arrays.copyOf(path, length * 2);
+                }
+
+                path[length++] = this.states.key(index);
+                index = this.states.parent(index);
+            }
+
+            return Arrays.copyOf(path, length);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/**
+ * This class estimates how many moves a Rush Hour state is from solved.
+ *
+ * @version 1.0
+ *
+ * File: BlockingHeuristic.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: The estimate is the distance from the red car to the exit
+ * plus the larger of two lower bounds on the moves of the vehicles in its
+ * way, each counting the moves of different vehicles:
+ * 1. for every vehicle between the red car and the exit, the fewest spaces
+ *    it must slide to get out of the red car's row, plus one move for every
+ *    other vehicle in the way of all of its escapes
+ * 2. for every vehicle between the red car and the exit, the cheaper of its
+ *    two escapes, where an escape costs the spaces it slides plus the spaces
+ *    every vehicle on its way must slide to get off that way
+ *
+ * The second bound looks two levels of blockers deep, but a vehicle in the
+ * way of either escape of one blocker is never counted again for another,
+ * which can leave it below the first. Because no vehicle is counted twice in
+ * either bound the estimate never overestimates, which is what lets the A*
+ * and IDA* searches still return optimal solutions.
+ *
+ * Under MoveMetric.SLIDE one slide covers any distance, so every vehicle that
+ * has to move at all counts one move.
+ */
+
+package rushhour;
+
+class BlockingHeuristic
+{
+    BlockingHeuristic(PackedBoard packed)
+    {
+        this.packed = packed;
+    }
+
+    final private PackedBoard packed;
+
+    /**
+     * Estimates the number of moves left before the red car is at the exit.
+     *
+     * @param state the packed state
+     * @return a lower bound on the number of moves needed under the board's
+     * move metric
+     */
+    int estimate(long state)
+    {
+        int red = this.packed.redIndex();
+
+        if (red < 0)
+        {
+            return 0;
+        }
+
+        int redOffset = this.packed.offset(state, red);
+        int row = this.packed.fixed(red);
+        boolean slides = this.packed.metric() == MoveMetric.SLIDE;
+        int estimate = slides
+            ? Math.min(PackedBoard.EXIT_OFFSET - redOffset, 1)
+            : PackedBoard.EXIT_OFFSET - redOffset;
+
+        // one bit per vehicle already counted, and per vehicle that must move
+        long counted = 1L << red;
+        long mustMove = 0;
+        int shallow = 0;
+
+        // the second bound, and the vehicles it may have counted already
+        int deep = 0;
+        long reserved = 0;
+
+        for (int column = redOffset + this.packed.length(red); column < 6;
+            column++)
+        {
+            int j = this.packed.occupant(state, row * 6 + column);
+
+            if ((j < 0) || ((counted & (1L << j)) != 0))
+            {
+                continue;
+            }
+
+            counted |= 1L << j;
+
+            if (this.packed.isHorizontal(j))
+            {
+                // it can never leave the row; one move is still a lower bound
+                shallow++;
+                deep++;
+                continue;
+            }
+
+            int offset = this.packed.offset(state, j);
+            int length = this.packed.length(j);
+            int fewest = Integer.MAX_VALUE;
+            int cheapest = Integer.MAX_VALUE;
+            long inEveryWay = -1L;
+            long inAnyWay = 0;
+
+            // clear the row by moving up until the bottom is above it
+            int upOffset = row - length;
+            if (upOffset >= 0)
+            {
+                long inWay = this.occupants(state, j, upOffset, offset - 1);
+                int spaces = offset - upOffset;
+                fewest = Math.min(fewest, spaces);
+                cheapest = Math.min(cheapest, (slides ? 1 : spaces)
+                    + this.clearCost(state, inWay & ~reserved, j, upOffset,
+                        offset - 1));
+                inEveryWay &= inWay;
+                inAnyWay |= inWay;
+            }
+
+            // or by moving down until the top is below it
+            int downOffset = row + 1;
+            if (downOffset + length <= 6)
+            {
+                long inWay = this.occupants(state, j, offset + length,
+                    downOffset + length - 1);
+                int spaces = downOffset - offset;
+                fewest = Math.min(fewest, spaces);
+                cheapest = Math.min(cheapest, (slides ? 1 : spaces)
+                    + this.clearCost(state, inWay & ~reserved, j,
+                        offset + length, downOffset + length - 1));
+                inEveryWay &= inWay;
+                inAnyWay |= inWay;
+            }
+
+            if (fewest == Integer.MAX_VALUE)
+            {
+                shallow++;
+                deep++;
+                continue;
+            }
+
+            // one slide gets it all the way out of the row
+            shallow += slides ? 1 : fewest;
+            mustMove |= inEveryWay;
+            deep += cheapest;
+            reserved |= inAnyWay;
+        }
+
+        shallow += Long.bitCount(mustMove & ~counted);
+
+        return estimate + Math.max(shallow, deep);
+    }
+
+    /**
+     * Finds the fewest moves that get some vehicles out of the way of a
+     * vertical vehicle.
+     *
+     * @param state the packed state
+     * @param inWay one bit per vehicle on the rows the vertical vehicle must
+     * slide onto
+     * @param j the index of the vertical vehicle
+     * @param fromRow the first of those rows
+     * @param toRow the last of those rows
+     * @return a lower bound on the moves of the vehicles in inWay before j
+     * can cover every one of the rows
+     */
+    private int clearCost(long state, long inWay, int j, int fromRow,
+        int toRow)
+    {
+        boolean slides = this.packed.metric() == MoveMetric.SLIDE;
+        int column = this.packed.fixed(j);
+        int cost = 0;
+
+        for (long rest = inWay; rest != 0; rest &= rest - 1)
+        {
+            int k = Long.numberOfTrailingZeros(rest);
+            int offset = this.packed.offset(state, k);
+            int length = this.packed.length(k);
+            int fewest = Integer.MAX_VALUE;
+
+            if (this.packed.isHorizontal(k))
+            {
+                // off the column to the left, or to the right
+                if (column - length >= 0)
+                {
+                    fewest = offset - (column - length);
+                }
+                if (column + 1 + length <= 6)
+                {
+                    fewest = Math.min(fewest, column + 1 - offset);
+                }
+            }
+            else if (offset < this.packed.offset(state, j))
+            {
+                // in j's column it cannot pass j, so up above the rows
+                if (fromRow - length >= 0)
+                {
+                    fewest = offset - (fromRow - length);
+                }
+            }
+            else if (toRow + 1 + length <= 6)
+            {
+                // or down below them
+                fewest = toRow + 1 - offset;
+            }
+
+            cost += (slides || (fewest == Integer.MAX_VALUE)) ? 1 : fewest;
+        }
+
+        return cost;
+    }
+
+    /**
+     * Finds the vehicles on part of a vertical vehicle's column.
+     *
+     * @param state the packed state
+     * @param j the index of the vertical vehicle
+     * @param fromRow the first row to look at
+     * @param toRow the last row to look at
+     * @return one bit per vehicle other than j found on those rows
+     */
+    private long occupants(long state, int j, int fromRow, int toRow)
+    {
+        long found = 0;
+
+        for (int row = fromRow; row <= toRow; row++)
+        {
+            int k = this.packed.occupant(state, row * 6 + this.packed.fixed(j));
+
+            if ((k >= 0) && (k != j))
+            {
+                found |= 1L << k;
+            }
+        }
+
+        return found;
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * This class is the color-blind form of a Rush Hour puzzle.
+ *
+ * @version 1.0
+ *
+ * File: CanonicalPuzzle.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: Two puzzles with the same vehicles in the same places are the
+ * same puzzle, whatever colors the vehicles are painted and whatever order
+ * the file lists them in. This class describes each vehicle by one byte
+ * packed as the bits offflddd: orientation, then fixed coordinate, then
+ * length less two, then dynamic value. Sorting the vehicles by that byte
+ * puts them in an order that depends only on where they are, and the key of
+ * the puzzle is the vehicle count, the sorted index of the red car, the
+ * sorted bytes and, in the last WALL_BYTES bytes, the wall mask. A solution
+ * is only shortest under one MoveMetric, so the top two bits of the count
+ * hold the metric's ordinal.
+ *
+ * The only color that matters to a solution is red, and the red car is
+ * picked out by its index. Moves are stored by sorted index, one byte each
+ * as made by encodeMove, and decodeMove gives them back the vehicle indices
+ * of whichever puzzle is asking.
+ */
+
+package rushhour;
+
+public class CanonicalPuzzle
+{
+    public CanonicalPuzzle(Puzzle puzzle)
+    {
+        this(puzzle, MoveMetric.SINGLE_SPACE);
+    }
+
+    public CanonicalPuzzle(Puzzle puzzle, MoveMetric metric)
+    {
+        int numCars = puzzle.numCars();
+
+        if (numCars > PackedBoard.MAX_VEHICLES)
+        {
+            throw new IllegalArgumentException(
+                numCars + " vehicles do not fit in a canonical key");
+        }
+
+        this.puzzle = puzzle;
+        this.order = new int[numCars];
+        this.rank = new int[numCars];
+        this.key = new byte[KEY_SIZE];
+
+        int[] bytes = new int[numCars];
+        int red = -1;
+
+        for (int i = 0; i < numCars; i++)
+        {
+            Vehicle v = puzzle.vehicle(i);
+            boolean horizontal = v.orientation().equals("h");
+
+            bytes[i] = ((horizontal ? 1 : 0) << 7)
+                | ((horizontal ? v.y() : v.x()) << 4)
+                | ((v.length() - 2) << 3)
+                | (horizontal ? v.x() : v.y());
+
+            if (v.color().equals("red"))
+            {
+                red = i;
+            }
+        }
+
+        // a stable insertion sort; there are never more than 21 vehicles
+        for (int i = 0; i < numCars; i++)
+        {
+            int k = i;
+
+            while ((k > 0) && (bytes[this.order[k - 1]] > bytes[i]))
+            {
+                this.order[k] = this.order[k - 1];
+                k--;
+            }
+
+            this.order[k] = i;
+        }
+
+        for (int c = 0; c < numCars; c++)
+        {
+            this.rank[this.order[c]] = c;
+            this.key[2 + c] = (byte) bytes[this.order[c]];
+        }
+
+        this.key[0] = (byte) (numCars | (metric.ordinal() << 6));
+        this.key[1] = (byte) ((red < 0) ? -1 : this.rank[red]);
+
+        long walls = puzzle.walls();
+
+        for (int k = 0; k < WALL_BYTES; k++)
+        {
+            this.key[KEY_SIZE - WALL_BYTES + k] = (byte) (walls >>> (8 * k));
+        }
+    }
+
+    /**
+     * The bytes of a key that hold the 36 bit wall mask.
+     */
+    public static final int WALL_BYTES = 5;
+
+    /**
+     * The bytes in a key: vehicle count, red index, one per vehicle and the
+     * walls.
+     */
+    public static final int KEY_SIZE = 2 + PackedBoard.MAX_VEHICLES
+        + WALL_BYTES;
+
+    final private Puzzle puzzle;
+
+    // order[canonical index] is the puzzle's index, rank is the reverse
+    final private int[] order;
+    final private int[] rank;
+    final private byte[] key;
+
+    /**
+     * Gets the puzzle this is the canonical form of.
+     *
+     * @return the puzzle, colors and all
+     */
+    public Puzzle puzzle()
+    {
+        return this.puzzle;
+    }
+
+    /**
+     * Gets the key shared by every puzzle with these vehicles in these
+     * places.
+     *
+     * @return KEY_SIZE bytes, with unused bytes zero; a copy
+     */
+    public byte[] key()
+    {
+        return this.key.clone();
+    }
+
+    /**
+     * Gets the key without copying it, for callers that only read it.
+     *
+     * @return the key itself
+     */
+    byte[] keyBytes()
+    {
+        return this.key;
+    }
+
+    /**
+     * Finds where a vehicle of the puzzle comes in canonical order.
+     *
+     * @param i the index of the vehicle in the puzzle
+     * @return its canonical index
+     */
+    public int canonicalIndex(int i)
+    {
+        return this.rank[i];
+    }
+
+    /**
+     * Finds which vehicle of the puzzle comes at a place in canonical order.
+     *
+     * @param canonical the canonical index
+     * @return the index of the vehicle in the puzzle
+     */
+    public int originalIndex(int canonical)
+    {
+        return this.order[canonical];
+    }
+
+    /**
+     * Gets the color the puzzle gives a vehicle in canonical order.
+     *
+     * @param canonical the canonical index
+     * @return the color of that vehicle
+     */
+    public String color(int canonical)
+    {
+        return this.puzzle.color(this.order[canonical]);
+    }
+
+    /**
+     * Packs a move of the puzzle into a byte that does not depend on colors
+     * or on the order the vehicles were listed in.
+     *
+     * @param move a move of one of the puzzle's vehicles, packed as MoveList
+     * packs it
+     * @return the canonical vehicle index times 8, plus spaces - 1 for a move
+     * right or down, or spaces + 3 for a move left or up
+     */
+    public byte encodeMove(int move)
+    {
+        int delta = MoveList.delta(move);
+        int code = (delta > 0) ? delta - 1 : 3 - delta;
+
+        return (byte) ((this.rank[MoveList.vehicle(move)] << 3) | code);
+    }
+
+    /**
+     * Unpacks a move made by encodeMove of any puzzle with the same key.
+     *
+     * @param code the byte made by encodeMove
+     * @return the move of this puzzle's vehicle, packed as MoveList packs it
+     */
+    public int decodeMove(byte code)
+    {
+        int canonical = (code & 0xFF) >>> 3;
+        int spaces = (code & 3) + 1;
+        boolean forward = (code & 4) == 0;
+
+        return MoveList.encode(this.order[canonical],
+            forward ? spaces : -spaces);
+    }
+}
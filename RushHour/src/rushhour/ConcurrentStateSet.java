@@ -0,0 +1,222 @@
+/**
+ * This class stores the packed states reached during a parallel solve.
+ *
+ * @version 1.0
+ *
+ * File: ConcurrentStateSet.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: This class is a map from packed states to the packed state they
+ * were reached from, safe to use from many threads at once. It is split into
+ * stripes chosen by the high bits of a state's hash, and each stripe is a
+ * small open-addressing table in flat arrays guarded by its own lock, so
+ * threads only wait on each other when they touch the same stripe. Parents
+ * are stored as packed states rather than indices because indices would only
+ * mean something within one stripe.
+ */
+
+package rushhour;
+
+import java.util.Arrays;
+
+class ConcurrentStateSet
+{
+    ConcurrentStateSet(int stripeCount)
+    {
+        int count = Integer.highestOneBit(Math.max(stripeCount, 1) * 2 - 1);
+
+        this.stripes = new Stripe[count];
+        this.stripeShift = 32 - Integer.numberOfTrailingZeros(count);
+
+        for (int i = 0; i < count; i++)
+        {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * The parent of a state that has no parent. No packed state has every
+     * bit set, since a dynamic value is never 7.
+     */
+    static final long NO_PARENT = -1L;
+
+    final private Stripe[] stripes;
+    final private int stripeShift;
+
+    /**
+     * Adds a state if it is not already in the set.
+     *
+     * @param key the packed state
+     * @param parent the packed state it was reached from, or NO_PARENT
+     * @return true if the state was added, false if it was already there
+     */
+    boolean add(long key, long parent)
+    {
+        int hash = StateTable.hash(key);
+        return this.stripeFor(hash).add(key, parent, hash);
+    }
+
+    /**
+     * Finds the state a state was reached from.
+     *
+     * @param key the packed state, which must be in the set
+     * @return the parent state, or NO_PARENT
+     */
+    long parent(long key)
+    {
+        int hash = StateTable.hash(key);
+        return this.stripeFor(hash).parent(key, hash);
+    }
+
+    /**
+     * Counts the states in the set.
+     *
+     * @return the number of states added
+     */
+    int size()
+    {
+        int size = 0;
+
+        for (Stripe stripe : this.stripes)
+        {
+            size += stripe.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * Counts the hash slots of every stripe.
+     *
+     * @return the total number of slots
+     */
+    int capacity()
+    {
+        int capacity = 0;
+
+        for (Stripe stripe : this.stripes)
+        {
+            capacity += stripe.capacity();
+        }
+
+        return capacity;
+    }
+
+    /**
+     * Picks the stripe a hash belongs to.
+     *
+     * @param hash the hash of a state
+     * @return the stripe holding that state
+     */
+    private Stripe stripeFor(int hash)
+    {
+        return (this.stripes.length == 1)
+            ? this.stripes[0]
+            : this.stripes[hash >>> this.stripeShift];
+    }
+
+    /**
+     * One lock's worth of the set, laid out like a StateTable.
+     */
+    private static class Stripe
+    {
+        Stripe()
+        {
+            this.keys = new long[16];
+            this.parents = new long[16];
+            this.slots = new int[32];
+            this.size = 0;
+        }
+
+        private long[] keys;
+        private long[] parents;
+        private int[] slots;
+        private int size;
+
+        synchronized boolean add(long key, long parent, int hash)
+        {
+            int mask = this.slots.length - 1;
+            int slot = hash & mask;
+
+            while (this.slots[slot] != 0)
+            {
+                if (this.keys[this.slots[slot] - 1] == key)
+                {
+                    return false;
+                }
+
+                slot = (slot + 1) & mask;
+            }
+
+            if (this.size == this.keys.length)
+            {
+                this.keys = Arrays.copyOf(this.keys, this.size * 2);
+                this.parents = Arrays.copyOf(this.parents, this.size * 2);
+            }
+
+            this.keys[this.size] = key;
+            this.parents[this.size] = parent;
+            this.size++;
+            this.slots[slot] = this.size;
+
+            if (this.size * 2 > this.slots.length)
+            {
+                this.rehash();
+            }
+
+            return true;
+        }
+
+        synchronized long parent(long key, int hash)
+        {
+            int mask = this.slots.length - 1;
+            int slot = hash & mask;
+
+            while (this.slots[slot] != 0)
+            {
+                int index = this.slots[slot] - 1;
+
+                if (this.keys[index] == key)
+                {
+                    return this.parents[index];
+                }
+
+                slot = (slot + 1) & mask;
+            }
+
+            return NO_PARENT;
+        }
+
+        synchronized int size()
+        {
+            return this.size;
+        }
+
+        synchronized int capacity()
+        {
+            return this.slots.length;
+        }
+
+        private void rehash()
+        {
+            int[] newSlots = new int[this.slots.length * 2];
+            int mask = newSlots.length - 1;
+
+            for (int index = 0; index < this.size; index++)
+            {
+                int slot = StateTable.hash(this.keys[index]) & mask;
+
+                while (newSlots[slot] != 0)
+                {
+                    slot = (slot + 1) & mask;
+                }
+
+                newSlots[slot] = index + 1;
+            }
+
+            this.slots = newSlots;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/**
+ * This class streams puzzles out of a large one-line-per-puzzle corpus.
+ *
+ * @version 1.0
+ *
+ * File: CorpusReader.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: Each line of a corpus holds one puzzle as a 36 character
+ * board, read row by row from the top left. 'o' or '.' is an empty square,
+ * 'x' is a wall and a letter is part of a vehicle, with 'A' the red car. The
+ * board may be surrounded by other whitespace separated fields, such as the
+ * move count and cluster size of the published puzzle databases; the first
+ * field 36 characters long is taken as the board. Blank lines and lines
+ * starting with '#' are skipped.
+ *
+ * The file is memory mapped WINDOW_SIZE bytes at a time and read straight out
+ * of the mapping, so a corpus of any size is never held on the heap; only the
+ * puzzle being handed out is. Vehicles are listed in the order their first
+ * square is read. The red car is red and the others are given the colors of
+ * Vehicle.COLOR_NAMES in turn, so the colors in moves are made up but stable.
+ * Puzzles are named after the file and line number.
+ */
+
+package rushhour;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+
+public class CorpusReader
+    implements Closeable
+{
+    public CorpusReader(String fileName)
+        throws IOException
+    {
+        this.fileName = fileName;
+        this.file = new RandomAccessFile(fileName, "r");
+        this.size = this.file.length();
+        this.windowStart = 0;
+        this.window = this.map(0);
+        this.lineNumber = 0;
+        this.boardStart = -1;
+    }
+
+    /**
+     * The most bytes of the file mapped at once.
+     */
+    static final int WINDOW_SIZE = 64 << 20;
+
+    /**
+     * The characters in a board.
+     */
+    static final int BOARD_SIZE = 36;
+
+    // boardStart of a line that has text but no board
+    private static final int NO_BOARD = -2;
+
+    final private String fileName;
+    final private RandomAccessFile file;
+    final private long size;
+    private long windowStart;
+    private MappedByteBuffer window;
+    private int lineNumber;
+
+    // where the board of the next puzzle starts in the window, NO_BOARD if
+    // its line has none, or -1 if the next line has not been found yet
+    private int boardStart;
+
+    /**
+     * Tells whether there is another puzzle in the corpus.
+     *
+     * @return true if another board line is left
+     * @throws IOException thrown if the next part of the file cannot be
+     * mapped
+     */
+    public boolean hasNext()
+        throws IOException
+    {
+        while (this.boardStart == -1)
+        {
+            if (this.windowStart + this.window.position() >= this.size)
+            {
+                return false;
+            }
+
+            int start = this.window.position();
+            int end = start;
+
+            while ((end < this.window.limit())
+                && (this.window.get(end) != '\n'))
+            {
+                end++;
+            }
+
+            // a line cut off by the end of the window is read again from a
+            // window that starts with it
+            if ((end == this.window.limit())
+                && (this.windowStart + end < this.size))
+            {
+                if (start == 0)
+                {
+                    throw new IOException(this.fileName + " line "
+                        + (this.lineNumber + 1) + " is too long");
+                }
+
+                this.window = this.map(this.windowStart + start);
+                continue;
+            }
+
+            this.lineNumber++;
+            this.window.position(Math.min(end + 1, this.window.limit()));
+            this.boardStart = this.findBoard(start, end);
+        }
+
+        return true;
+    }
+
+    /**
+     * Reads the next puzzle.
+     *
+     * @return the puzzle
+     * @throws IOException thrown if the next part of the file cannot be
+     * mapped
+     * @throws IllegalArgumentException thrown if the line does not hold a
+     * board that can be played; the line is skipped all the same
+     */
+    public Puzzle next()
+        throws IOException
+    {
+        if (!this.hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+
+        int board = this.boardStart;
+        this.boardStart = -1;
+
+        if (board == NO_BOARD)
+        {
+            throw new IllegalArgumentException(this.where()
+                + " has no " + BOARD_SIZE + " character board");
+        }
+
+        return this.parseBoard(board);
+    }
+
+    /**
+     * Closes the file. The reader must not be used afterward.
+     *
+     * @throws IOException thrown if the file cannot be closed
+     */
+    @Override
+    public void close()
+        throws IOException
+    {
+        this.file.close();
+    }
+
+    private MappedByteBuffer map(long start)
+        throws IOException
+    {
+        this.windowStart = start;
+
+        return this.file.getChannel().map(FileChannel.MapMode.READ_ONLY,
+            start, Math.min(WINDOW_SIZE, this.size - start));
+    }
+
+    /**
+     * Finds the board on a line.
+     *
+     * @param start the first byte of the line in the window
+     * @param end the byte after the line
+     * @return where the board starts, -1 for a line with nothing on it or
+     * NO_BOARD for a line with no board on it
+     */
+    private int findBoard(int start, int end)
+    {
+        int position = start;
+        boolean empty = true;
+
+        while (position < end)
+        {
+            while ((position < end) && isWhitespace(this.window.get(position)))
+            {
+                position++;
+            }
+
+            int tokenStart = position;
+
+            while ((position < end)
+                && !isWhitespace(this.window.get(position)))
+            {
+                position++;
+            }
+
+            if (position == tokenStart)
+            {
+                break;
+            }
+
+            if (empty && (this.window.get(tokenStart) == '#'))
+            {
+                return -1;
+            }
+
+            empty = false;
+
+            if (position - tokenStart == BOARD_SIZE)
+            {
+                return tokenStart;
+            }
+        }
+
+        return empty ? -1 : NO_BOARD;
+    }
+
+    /**
+     * Builds the puzzle of the board at a place in the window.
+     *
+     * @param board where the board starts in the window
+     * @return the puzzle
+     */
+    private Puzzle parseBoard(int board)
+    {
+        ArrayList<Vehicle> vehicles = new ArrayList<>();
+        long walls = 0;
+        long covered = 0;
+        long seen = 0;
+        int nextColor = 1;
+
+        for (int square = 0; square < BOARD_SIZE; square++)
+        {
+            byte cell = this.window.get(board + square);
+
+            if ((cell == 'o') || (cell == '.'))
+            {
+                continue;
+            }
+
+            if (cell == 'x')
+            {
+                walls |= PackedBoard.bit(square);
+                continue;
+            }
+
+            if ((cell < 'A') || (cell > 'Z'))
+            {
+                throw new IllegalArgumentException(this.where()
+                    + " has '" + (char) cell + "' on its board");
+            }
+
+            // the first square read is the vehicle's top or left end
+            if ((seen & (1L << (cell - 'A'))) != 0)
+            {
+                continue;
+            }
+            seen |= 1L << (cell - 'A');
+
+            int row = square / 6;
+            int column = square % 6;
+            boolean horizontal = (column < 5)
+                && (this.window.get(board + square + 1) == cell);
+            int step = horizontal ? 1 : 6;
+            int length = 1;
+
+            while ((length < 3) && (horizontal
+                ? column + length < 6
+                : row + length < 6)
+                && (this.window.get(board + square + length * step) == cell))
+            {
+                length++;
+            }
+
+            if ((length < 2) || (nextColor == Vehicle.COLOR_NAMES.length))
+            {
+                throw new IllegalArgumentException(this.where()
+                    + " has a vehicle that cannot be built: " + (char) cell);
+            }
+
+            for (int k = 0; k < length; k++)
+            {
+                covered |= PackedBoard.bit(square + k * step);
+            }
+
+            String color = (cell == 'A')
+                ? "red"
+                : Vehicle.COLOR_NAMES[nextColor++];
+
+            try
+            {
+                vehicles.add(new Vehicle((length == 2) ? "car" : "truck",
+                    color, column, row, horizontal ? "h" : "v"));
+            }
+            catch (VehicleConstructorError ex)
+            {
+                throw new IllegalArgumentException(this.where() + ": "
+                    + ex.getMessage());
+            }
+        }
+
+        // every letter must have been part of exactly one straight vehicle
+        for (int square = 0; square < BOARD_SIZE; square++)
+        {
+            byte cell = this.window.get(board + square);
+
+            if ((cell >= 'A') && (cell <= 'Z')
+                && ((covered & PackedBoard.bit(square)) == 0))
+            {
+                throw new IllegalArgumentException(this.where()
+                    + " has a vehicle that is not straight: " + (char) cell);
+            }
+        }
+
+        return new Puzzle(this.fileName + ":" + this.lineNumber, vehicles,
+            walls);
+    }
+
+    private String where()
+    {
+        return this.fileName + " line " + this.lineNumber;
+    }
+
+    private static boolean isWhitespace(byte b)
+    {
+        return (b == ' ') || (b == '\t') || (b == '\r') || (b == '\f');
+    }
+}
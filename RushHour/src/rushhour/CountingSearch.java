@@ -0,0 +1,85 @@
+/**
+ * This class is the length-only breadth first search of the Rush Hour solver.
+ *
+ * @version 1.0
+ *
+ * File: CountingSearch.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: When only the length of the solution is wanted there is no
+ * need to remember how any state was reached. The workspace's state table is
+ * made with PathStorage.NONE, so it is just the set of visited states, and
+ * since a breadth first search adds states a whole depth at a time the
+ * states of the current and the next depth are simply two runs of table
+ * indices. No queue, no parents and no moves are kept, and a successor is
+ * checked for the exit as soon as it is made, so the last depth is never
+ * expanded at all.
+ */
+
+package rushhour;
+
+class CountingSearch
+{
+    /**
+     * Runs the length-only search in a fresh workspace.
+     *
+     * @param work the workspace of the puzzle to solve, whose state table
+     * keeps no paths
+     * @return the number of moves of the shortest solution, not counting the
+     * red car leaving the board, or -1 if the red car cannot escape
+     */
+    static int search(SearchWorkspace work)
+    {
+        PackedBoard packed = work.packed;
+        StateTable visited = work.states;
+        long[] successors = work.successors;
+
+        long start = packed.encode(work.puzzle.vehicles());
+        visited.add(start, StateTable.NO_PARENT);
+
+        if (packed.isSolved(start))
+        {
+            work.endLevel(0);
+            return 0;
+        }
+
+        // the current depth is the table indices from levelStart up to
+        // levelEnd, and everything added after levelEnd is the next depth
+        int levelStart = 0;
+        int levelEnd = 1;
+        int depth = 0;
+
+        while (levelStart < levelEnd)
+        {
+            for (int index = levelStart; index < levelEnd; index++)
+            {
+                long state = visited.key(index);
+                int count = packed.successors(state, successors);
+                work.expanded++;
+                work.generated += count;
+
+                for (int k = 0; k < count; k++)
+                {
+                    if (visited.add(successors[k], StateTable.NO_PARENT) < 0)
+                    {
+                        work.duplicates++;
+                    }
+                    else if (packed.isSolved(successors[k]))
+                    {
+                        work.endLevel(visited.size() - levelEnd);
+                        return depth + 1;
+                    }
+                }
+            }
+
+            levelStart = levelEnd;
+            levelEnd = visited.size();
+            depth++;
+            work.endLevel(levelEnd - levelStart);
+        }
+
+        return -1;
+    }
+}
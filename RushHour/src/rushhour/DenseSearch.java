@@ -0,0 +1,184 @@
+/**
+ * This class is the dense breadth first search mode of the Rush Hour solver.
+ *
+ * @version 1.0
+ *
+ * File: DenseSearch.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: A DenseStateIndex gives every state of the puzzle its own
+ * rank below a size known before the search starts, so the visited states
+ * are one bit each in a bitmap and the move that reached each state is one
+ * byte in an array, both indexed by rank. Finding out whether a successor is
+ * new is a single bit test with no hashing and no probing, and the memory the
+ * search needs is known up front: a little over a byte per rank, plus the
+ * states of the current and the next depth.
+ *
+ * A puzzle whose index has more than MAX_STATES ranks would need too much
+ * memory this way, so it is searched by the hashed breadth first search
+ * instead. When a solution is found the path is rebuilt by undoing moves from
+ * the solved state back to the start and is stored in the workspace's state
+ * table, so the Solver can rebuild the moves the same way it does for every
+ * other search.
+ */
+
+package rushhour;
+
+import java.util.Arrays;
+
+class DenseSearch
+{
+    /**
+     * Puzzles with more ranks than this are searched by hashing instead.
+     * The bitmap and move bytes then take at most 36 megabytes.
+     */
+    static final int MAX_STATES = 1 << 25;
+
+    /**
+     * Runs the dense search in a fresh workspace.
+     *
+     * @param work the workspace of the puzzle to solve
+     * @return the index of the solved state found, or NO_PARENT if the red car
+     * cannot escape
+     */
+    static int search(SearchWorkspace work)
+    {
+        PackedBoard packed = work.packed;
+        long[] successors = work.successors;
+
+        long start = packed.encode(work.puzzle.vehicles());
+        DenseStateIndex index = new DenseStateIndex(packed, start);
+
+        if (index.size() > MAX_STATES)
+        {
+            return Solver.search(work);
+        }
+
+        int size = (int) index.size();
+        long[] visited = new long[(size + 63) >>> 6];
+        byte[] moves = new byte[size];
+
+        int startRank = (int) index.rank(start);
+        visited[startRank >>> 6] |= 1L << startRank;
+        moves[startRank] = PackedBoard.NO_MOVE;
+        work.visited = 1;
+        work.tableCapacity = size;
+
+        if (packed.isSolved(start))
+        {
+            work.tableSize = work.visited;
+            work.endLevel(0);
+            return work.addPath(new long[] {start}, 0);
+        }
+
+        long[] frontier = {start};
+        int[] ranks = {startRank};
+        int frontierSize = 1;
+
+        while (frontierSize > 0)
+        {
+            long[] next = new long[Math.max(frontierSize * 2, 16)];
+            int[] nextRanks = new int[next.length];
+            int nextSize = 0;
+
+            for (int f = 0; f < frontierSize; f++)
+            {
+                long state = frontier[f];
+                int count = packed.successors(state, successors);
+                work.expanded++;
+                work.generated += count;
+
+                for (int k = 0; k < count; k++)
+                {
+                    int rank = (int) index.rankAfter(state, ranks[f],
+                        successors[k]);
+                    long bit = 1L << rank;
+
+                    if ((visited[rank >>> 6] & bit) != 0)
+                    {
+                        work.duplicates++;
+                        continue;
+                    }
+
+                    visited[rank >>> 6] |= bit;
+                    moves[rank] = PackedBoard.reverseMove(state,
+                        successors[k]);
+                    work.visited++;
+
+                    if (packed.isSolved(successors[k]))
+                    {
+                        work.tableSize = work.visited;
+                        work.endLevel(nextSize);
+                        return storePath(work, index, moves, successors[k]);
+                    }
+
+                    if (nextSize == next.length)
+                    {
+                        next = Arrays.copyOf(next, nextSize * 2);
+                        nextRanks = Arrays.copyOf(nextRanks, nextSize * 2);
+                    }
+
+                    next[nextSize] = successors[k];
+                    nextRanks[nextSize] = rank;
+                    nextSize++;
+                }
+            }
+
+            frontier = next;
+            ranks = nextRanks;
+            frontierSize = nextSize;
+            work.tableSize = work.visited;
+            work.endLevel(frontierSize);
+        }
+
+        return StateTable.NO_PARENT;
+    }
+
+    /**
+     * Undoes the stored moves from a solved state back to the start and
+     * stores the path in the workspace's state table.
+     *
+     * @param work the workspace the search ran in
+     * @param index the index that ranked the states
+     * @param moves the move that reached every visited state, by rank
+     * @param solved the solved state
+     * @return the state table index of the solved state
+     */
+    private static int storePath(SearchWorkspace work, DenseStateIndex index,
+        byte[] moves, long solved)
+    {
+        long[] path = new long[16];
+        int length = 0;
+
+        long state = solved;
+        byte move;
+
+        do
+        {
+            if (length == path.length)
+            {
+                path = Arrays.copyOf(path, length * 2);
+            }
+
+            path[length++] = state;
+            move = moves[(int) index.rank(state)];
+
+            if (move != PackedBoard.NO_MOVE)
+            {
+                state = PackedBoard.undoMove(state, move);
+            }
+        }
+        while (move != PackedBoard.NO_MOVE);
+
+        for (int i = 0; i < length / 2; i++)
+        {
+            long swap = path[i];
+            path[i] = path[length - 1 - i];
+            path[length - 1 - i] = swap;
+        }
+
+        return work.addPath(path, length - 1);
+    }
+}
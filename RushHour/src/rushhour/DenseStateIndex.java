@@ -0,0 +1,248 @@
+/**
+ * This class numbers the states of a puzzle with dense integers.
+ *
+ * @version 1.0
+ *
+ * File: DenseStateIndex.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: Every vehicle has at most 5 dynamic values, so the packed
+ * states of a puzzle could be numbered as mixed-radix numbers with one digit
+ * per vehicle. Vehicles that share a lane, the same row or the same column
+ * going the same way, can never pass each other though, so this class ranks
+ * each lane as a whole instead: k vehicles leaving f free squares in a lane
+ * can only be placed C(f + k, k) ways, and those placements are numbered in
+ * the combinatorial number system. The rank of a state is then a mixed-radix
+ * number with one digit per lane. Every state reachable from the start gets a
+ * different rank below size(), so the rank can index flat arrays with no
+ * hashing at all.
+ *
+ * Moving one vehicle only changes the digit of its lane, so rankAfter finds
+ * the rank of a successor from the rank of its parent by reranking one lane.
+ */
+
+package rushhour;
+
+import java.util.ArrayList;
+
+class DenseStateIndex
+{
+    /**
+     * Builds the index of every state reachable from a start.
+     *
+     * @param packed the packed board of the puzzle
+     * @param start the packed starting state, which fixes the order of the
+     * vehicles in every lane
+     */
+    DenseStateIndex(PackedBoard packed, long start)
+    {
+        int numCars = packed.numCars();
+
+        this.packed = packed;
+        this.laneOf = new int[numCars];
+
+        ArrayList<int[]> lanes = new ArrayList<>();
+
+        for (int i = 0; i < numCars; i++)
+        {
+            int lane = 0;
+
+            while ((lane < lanes.size())
+                && !this.sameLane(lanes.get(lane)[0], i))
+            {
+                lane++;
+            }
+
+            if (lane == lanes.size())
+            {
+                lanes.add(new int[] {i});
+            }
+            else
+            {
+                lanes.set(lane, this.insert(lanes.get(lane), i, start));
+            }
+
+            this.laneOf[i] = lane;
+        }
+
+        this.lanes = lanes.toArray(new int[lanes.size()][]);
+        this.weights = new long[this.lanes.length];
+
+        long size = 1;
+
+        for (int lane = 0; lane < this.lanes.length; lane++)
+        {
+            int k = this.lanes[lane].length;
+            int free = 6;
+
+            for (int i : this.lanes[lane])
+            {
+                free -= packed.length(i);
+            }
+
+            this.weights[lane] = size;
+            size = saturatedMultiply(size, BINOMIAL[free + k][k]);
+        }
+
+        this.size = size;
+    }
+
+    // BINOMIAL[n][k] is n choose k, for every n a lane can need
+    private static final long[][] BINOMIAL = binomials(7);
+
+    final private PackedBoard packed;
+
+    // The vehicles of every lane, in the order they sit along it
+    final private int[][] lanes;
+    final private int[] laneOf;
+
+    // The place value of every lane's digit
+    final private long[] weights;
+    final private long size;
+
+    /**
+     * Gets the number of ranks.
+     *
+     * @return one more than the highest rank, or Long.MAX_VALUE if there are
+     * more ranks than a long can count
+     */
+    long size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Ranks a state.
+     *
+     * @param state the packed state
+     * @return the rank of the state
+     */
+    long rank(long state)
+    {
+        long rank = 0;
+
+        for (int lane = 0; lane < this.lanes.length; lane++)
+        {
+            rank += this.weights[lane] * this.laneRank(state, lane);
+        }
+
+        return rank;
+    }
+
+    /**
+     * Ranks a successor of a state already ranked.
+     *
+     * @param from the packed state
+     * @param rank the rank of from
+     * @param to a packed state one move away from it
+     * @return the rank of to
+     */
+    long rankAfter(long from, long rank, long to)
+    {
+        int lane = this.laneOf[this.packed.movedVehicle(from, to)];
+
+        return rank + this.weights[lane]
+            * (this.laneRank(to, lane) - this.laneRank(from, lane));
+    }
+
+    /**
+     * Ranks the placement of one lane's vehicles.
+     *
+     * @param state the packed state
+     * @param lane the lane
+     * @return the rank of the lane, from 0 to C(f + k, k) - 1
+     */
+    private int laneRank(long state, int lane)
+    {
+        int[] vehicles = this.lanes[lane];
+        int rank = 0;
+        int covered = 0;
+
+        // with the squares of the vehicles before it taken out, the jth
+        // vehicle's place plus j is the jth member of a combination
+        for (int j = 0; j < vehicles.length; j++)
+        {
+            int place = this.packed.offset(state, vehicles[j]) - covered + j;
+            rank += (int) BINOMIAL[place][j + 1];
+            covered += this.packed.length(vehicles[j]);
+        }
+
+        return rank;
+    }
+
+    /**
+     * Tells whether two vehicles share a lane.
+     *
+     * @param i the index of one vehicle
+     * @param j the index of the other
+     * @return true if they go the same way in the same row or column
+     */
+    private boolean sameLane(int i, int j)
+    {
+        return (this.packed.isHorizontal(i) == this.packed.isHorizontal(j))
+            && (this.packed.fixed(i) == this.packed.fixed(j));
+    }
+
+    /**
+     * Adds a vehicle to a lane, keeping the lane in order along its line.
+     *
+     * @param lane the vehicles of the lane
+     * @param i the vehicle to add
+     * @param start the state that fixes the order
+     * @return a new lane holding the vehicle as well
+     */
+    private int[] insert(int[] lane, int i, long start)
+    {
+        int[] longer = new int[lane.length + 1];
+        int at = lane.length;
+
+        while ((at > 0) && (this.packed.offset(start, lane[at - 1])
+            > this.packed.offset(start, i)))
+        {
+            longer[at] = lane[at - 1];
+            at--;
+        }
+
+        System.arraycopy(lane, 0, longer, 0, at);
+        longer[at] = i;
+
+        return longer;
+    }
+
+    /**
+     * Multiplies two positive numbers, stopping at Long.MAX_VALUE.
+     *
+     * @param a one number
+     * @param b the other
+     * @return a times b, or Long.MAX_VALUE if that does not fit in a long
+     */
+    private static long saturatedMultiply(long a, long b)
+    {
+        return (a > Long.MAX_VALUE / b) ? Long.MAX_VALUE : a * b;
+    }
+
+    /**
+     * Builds Pascal's triangle.
+     *
+     * @param rows the number of rows
+     * @return a table whose [n][k] element is n choose k, 0 when k > n
+     */
+    private static long[][] binomials(int rows)
+    {
+        long[][] table = new long[rows][rows];
+
+        for (int n = 0; n < rows; n++)
+        {
+            table[n][0] = 1;
+
+            for (int k = 1; k <= n; k++)
+            {
+                table[n][k] = table[n - 1][k - 1] + table[n - 1][k];
+            }
+        }
+
+        return table;
+    }
+}
@@ -0,0 +1,292 @@
+/**
+ * This class knows how far every state of a puzzle is from the exit.
+ *
+ * @version 1.0
+ *
+ * File: DistanceTable.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: Building the table does two breadth first searches. The first
+ * enumerates every state that can be reached from the starting one, which is
+ * the whole cluster of states connected to it since every move can be undone.
+ * The second starts from every solved state in the cluster at once and works
+ * backward, so each state is given the smallest number of moves that gets the
+ * red car to the exit.
+ *
+ * Distances are kept in one byte per state, stored by the state's index in a
+ * StateTable, with NOT_SOLVABLE for states the red car cannot escape from.
+ * After that any arrangement of the same vehicles that is in the cluster is
+ * answered with one hash lookup instead of another search, whichever state it
+ * starts from.
+ */
+
+package rushhour;
+
+import java.util.Arrays;
+
+public class DistanceTable
+{
+    public DistanceTable(Puzzle puzzle)
+    {
+        this(new PackedBoard(puzzle), puzzle);
+    }
+
+    private DistanceTable(PackedBoard packed, Puzzle puzzle)
+    {
+        this(packed, packed.encode(puzzle.vehicles()));
+    }
+
+    DistanceTable(PackedBoard packed, long start)
+    {
+        this.packed = packed;
+
+        // nothing here ever asks for a parent, so the table keeps none
+        this.states = new StateTable(1024, PathStorage.NONE);
+
+        long[] successors = new long[packed.maxSuccessors()];
+        int expanded = 0;
+        long generated = 0;
+        long duplicates = 0;
+
+        // the table's indices are in breadth first order, so the table is its
+        // own queue
+        this.states.add(start, StateTable.NO_PARENT);
+
+        for (int index = 0; index < this.states.size(); index++)
+        {
+            int count = packed.successors(this.states.key(index), successors);
+            expanded++;
+            generated += count;
+
+            for (int k = 0; k < count; k++)
+            {
+                if (this.states.add(successors[k], StateTable.NO_PARENT) < 0)
+                {
+                    duplicates++;
+                }
+            }
+        }
+
+        this.distances = new byte[this.states.size()];
+        Arrays.fill(this.distances, UNKNOWN);
+
+        StateQueue queue = new StateQueue(1024);
+
+        for (int index = 0; index < this.states.size(); index++)
+        {
+            if (packed.isSolved(this.states.key(index)))
+            {
+                this.distances[index] = 0;
+                queue.add(index);
+            }
+        }
+
+        while (!queue.isEmpty())
+        {
+            int index = queue.poll();
+            int distance = (this.distances[index] & 0xFF) + 1;
+
+            if (distance >= (UNKNOWN & 0xFF))
+            {
+                throw new IllegalStateException(
+                    "a distance of " + distance + " does not fit in a byte");
+            }
+
+            int count = packed.successors(this.states.key(index), successors);
+            expanded++;
+            generated += count;
+
+            for (int k = 0; k < count; k++)
+            {
+                int next = this.states.indexOf(successors[k]);
+
+                if (this.distances[next] == UNKNOWN)
+                {
+                    this.distances[next] = (byte) distance;
+                    queue.add(next);
+                }
+                else
+                {
+                    duplicates++;
+                }
+            }
+        }
+
+        this.expanded = expanded;
+        this.generated = generated;
+        this.duplicates = duplicates;
+    }
+
+    /**
+     * The distance of a state the red car cannot escape from.
+     */
+    public static final int NOT_SOLVABLE = -1;
+
+    // The stored byte of a state no solved state has reached
+    private static final byte UNKNOWN = (byte) 0xFF;
+
+    final private PackedBoard packed;
+    final private StateTable states;
+    final private byte[] distances;
+    final private int expanded;
+    final private long generated;
+    final private long duplicates;
+
+    /**
+     * Counts the states in the cluster.
+     *
+     * @return the number of states reachable from the starting state
+     */
+    public int size()
+    {
+        return this.states.size();
+    }
+
+    /**
+     * Tells whether a puzzle is one of the states in this table.
+     *
+     * @param puzzle a puzzle
+     * @return true if the puzzle has the same vehicles in the same lanes and
+     * its arrangement is reachable from the one this table was built from
+     */
+    public boolean contains(Puzzle puzzle)
+    {
+        return this.packed.sameLayout(new PackedBoard(puzzle))
+            && this.states.contains(this.packed.encode(puzzle.vehicles()));
+    }
+
+    /**
+     * Looks up the length of the shortest solution to a puzzle.
+     *
+     * @param puzzle a puzzle in this table
+     * @return the number of moves plus one for the red car leaving, the same
+     * as SolveResult.length, or -1 if the red car cannot escape
+     */
+    public int solutionLength(Puzzle puzzle)
+    {
+        if (!this.contains(puzzle))
+        {
+            throw new IllegalArgumentException(
+                puzzle.name() + " is not in this distance table");
+        }
+
+        int distance = this.distance(this.packed.encode(puzzle.vehicles()));
+
+        return (distance == NOT_SOLVABLE) ? -1 : distance + 1;
+    }
+
+    /**
+     * Looks up how far a state is from the exit.
+     *
+     * @param state a packed state in this table
+     * @return the fewest moves that put the red car at the exit, or
+     * NOT_SOLVABLE
+     */
+    int distance(long state)
+    {
+        int index = this.states.indexOf(state);
+
+        if (index < 0)
+        {
+            throw new IllegalArgumentException(
+                "state " + this.packed.dynamicValue(state)
+                + " is not in this distance table");
+        }
+
+        return (this.distances[index] == UNKNOWN)
+            ? NOT_SOLVABLE
+            : this.distances[index] & 0xFF;
+    }
+
+    /**
+     * Finds the next state of a shortest solution.
+     *
+     * @param state a packed state in this table that is solvable and not
+     * already solved
+     * @return a successor one move closer to the exit
+     */
+    long nextState(long state)
+    {
+        int distance = this.distance(state);
+
+        if (distance <= 0)
+        {
+            throw new IllegalArgumentException(
+                "state " + this.packed.dynamicValue(state)
+                + " has no move toward the exit");
+        }
+
+        long[] successors = new long[this.packed.maxSuccessors()];
+        int count = this.packed.successors(state, successors);
+
+        for (int k = 0; k < count; k++)
+        {
+            if (this.distance(successors[k]) == distance - 1)
+            {
+                return successors[k];
+            }
+        }
+
+        throw new IllegalStateException("distance table is inconsistent");
+    }
+
+    /**
+     * Gets the packed board the states of this table belong to.
+     *
+     * @return the packed board
+     */
+    PackedBoard packed()
+    {
+        return this.packed;
+    }
+
+    /**
+     * Counts the states whose successors were generated while building.
+     *
+     * @return the number of states expanded by both searches
+     */
+    int expanded()
+    {
+        return this.expanded;
+    }
+
+    /**
+     * Builds a distance table for a fresh workspace and follows it from the
+     * starting state to the exit.
+     *
+     * @param work the workspace of the puzzle to solve
+     * @return the index of the solved state reached, or NO_PARENT if the red
+     * car cannot escape
+     */
+    static int search(SearchWorkspace work)
+    {
+        long start = work.packed.encode(work.puzzle.vehicles());
+        DistanceTable table = new DistanceTable(work.packed, start);
+
+        work.visited = table.size();
+        work.expanded = table.expanded();
+        work.generated = table.generated;
+        work.duplicates = table.duplicates;
+        work.tableSize = table.size();
+        work.tableCapacity = table.states.capacity();
+
+        int distance = table.distance(start);
+
+        if (distance == NOT_SOLVABLE)
+        {
+            return StateTable.NO_PARENT;
+        }
+
+        long[] path = new long[distance + 1];
+        path[0] = start;
+
+        for (int i = 1; i <= distance; i++)
+        {
+            path[i] = table.nextState(path[i - 1]);
+        }
+
+        return work.addPath(path, distance);
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * This class holds the Java Flight Recorder events of the Rush Hour solver.
+ *
+ * @version 1.0
+ *
+ * File: FlightRecorderEvents.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: Every event is a PhaseEvent, timed from when it is begun to
+ * when it is committed, and carries the puzzle's name, a depth, a frontier
+ * size and a count of states visited; a phase that has no use for one of
+ * them leaves it 0. The events are in the Rush Hour category of a recording,
+ * next to the garbage collections and allocations that happened at the same
+ * time.
+ *
+ * Only SolverEvents uses this class, and only once it knows jdk.jfr exists,
+ * so the solver still runs on a JVM without the Flight Recorder.
+ */
+
+package rushhour;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+class FlightRecorderEvents
+{
+    /**
+     * Tells whether the Flight Recorder has been started, by a command line
+     * option or by jcmd.
+     *
+     * @return true once there has been a recording
+     */
+    static boolean isStarted()
+    {
+        return FlightRecorder.isInitialized();
+    }
+
+    /**
+     * Makes and begins the event of a phase.
+     *
+     * @param phase one of the SolverEvents phase numbers
+     * @return the event, timing from now
+     */
+    static Object begin(int phase)
+    {
+        PhaseEvent event;
+
+        switch (phase)
+        {
+            case SolverEvents.PARSE:
+                event = new ParseEvent();
+                break;
+            case SolverEvents.LEVEL:
+                event = new LevelEvent();
+                break;
+            case SolverEvents.PATH:
+                event = new PathEvent();
+                break;
+            default:
+                event = new HandoffEvent();
+                break;
+        }
+
+        event.begin();
+
+        return event;
+    }
+
+    /**
+     * Fills in and commits an event made by begin.
+     *
+     * @param handle the event
+     * @param puzzle the name of the puzzle
+     * @param depth the depth reached
+     * @param frontier the states waiting to be expanded
+     * @param visited the states visited
+     */
+    static void commit(Object handle, String puzzle, int depth,
+        int frontier, int visited)
+    {
+        PhaseEvent event = (PhaseEvent) handle;
+
+        if (event.shouldCommit())
+        {
+            event.puzzle = puzzle;
+            event.depth = depth;
+            event.frontier = frontier;
+            event.visited = visited;
+            event.commit();
+        }
+    }
+
+    @Category("Rush Hour")
+    abstract static class PhaseEvent
+        extends Event
+    {
+        @Label("Puzzle")
+        String puzzle;
+
+        @Label("Depth")
+        int depth;
+
+        @Label("Frontier Size")
+        int frontier;
+
+        @Label("States Visited")
+        int visited;
+    }
+
+    @Name("rushhour.Parse")
+    @Label("Parse Puzzle")
+    @Description("Reading a puzzle file")
+    static class ParseEvent
+        extends PhaseEvent
+    {
+    }
+
+    @Name("rushhour.Level")
+    @Label("Search Level")
+    @Description("One level of a search, a depth or a bound")
+    static class LevelEvent
+        extends PhaseEvent
+    {
+    }
+
+    @Name("rushhour.PathReconstruction")
+    @Label("Path Reconstruction")
+    @Description("Turning the solved state into a list of moves")
+    static class PathEvent
+        extends PhaseEvent
+    {
+    }
+
+    @Name("rushhour.Handoff")
+    @Label("GUI Handoff")
+    @Description("Handing a solution to the GameBoard")
+    static class HandoffEvent
+        extends PhaseEvent
+    {
+    }
+}
@@ -39,6 +39,7 @@ public class GameBoard
         vehicles = new ArrayList<>();
         moves = new ArrayList<>();
         this.movePosition = 0;
+        this.hintEngine = null;
 
         // All components in GridPanel are JLabels.
         // We store the default color so that the board can be redrawn.
@@ -69,6 +70,19 @@ public class GameBoard
     final private ArrayList<Vehicle> vehicles;
     private ArrayList<Move> moves;
     private int movePosition;
+    private HintEngine hintEngine;
+
+    /**
+     * Sets the engine that answers the Hint button. The engine should already
+     * be building its table, since a hint asked for before the table is done
+     * is not waited for.
+     *
+     * @param hintEngine the hint engine of the puzzle on the board
+     */
+    public void setHintEngine(HintEngine hintEngine)
+    {
+        this.hintEngine = hintEngine;
+    }
 
     /**
      * Sets the ArrayList of moves that should contain the best solution to the
@@ -344,6 +358,8 @@ public class GameBoard
         jLabel2 = new javax.swing.JLabel();
         BackButton = new javax.swing.JButton();
         ForwardButton = new javax.swing.JButton();
+        HintButton = new javax.swing.JButton();
+        hintLabel = new javax.swing.JLabel();
         moveCounterLabel = new javax.swing.JLabel();
         totalMovesLabel = new javax.swing.JLabel();
         jLabel1 = new javax.swing.JLabel();
@@ -846,6 +862,17 @@ public class GameBoard
             }
         });
         
+        HintButton.setText("Hint");
+        HintButton.addActionListener(new java.awt.event.ActionListener()
+                                     {
+            public void actionPerformed(java.awt.event.ActionEvent evt)
+            {
+                HintButtonActionPerformed(evt);
+            }
+        });
+        
+        hintLabel.setText(" ");
+        
         moveCounterLabel.setText("Move: 0");
         
         totalMovesLabel.setText("jLabel3");
@@ -867,8 +894,10 @@ public class GameBoard
                                                                                               .addComponent(BackButton, javax.swing.GroupLayout.PREFERRED_SIZE, 60, javax.swing.GroupLayout.PREFERRED_SIZE)
                                                                                               .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
                                                                                               .addComponent(ForwardButton, javax.swing.GroupLayout.PREFERRED_SIZE, 60, javax.swing.GroupLayout.PREFERRED_SIZE))
-                                                                                    .addComponent(jLabel2))
+                                                                                    .addComponent(jLabel2)
+                                                                                    .addComponent(HintButton))
                                                                           .addComponent(totalMovesLabel)
+                                                                          .addComponent(hintLabel)
                                                                           .addComponent(moveCounterLabel))
                                                                 .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED, javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
                                                                 .addComponent(GridPanel, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
@@ -894,7 +923,11 @@ public class GameBoard
                                                               .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
                                                               .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
                                                                         .addComponent(BackButton, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                                                                        .addComponent(ForwardButton, javax.swing.GroupLayout.PREFERRED_SIZE, 29, javax.swing.GroupLayout.PREFERRED_SIZE)))
+                                                                        .addComponent(ForwardButton, javax.swing.GroupLayout.PREFERRED_SIZE, 29, javax.swing.GroupLayout.PREFERRED_SIZE))
+                                                              .addGap(18, 18, 18)
+                                                              .addComponent(HintButton)
+                                                              .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                                                              .addComponent(hintLabel))
                                                     .addComponent(GridPanel, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
                                                     .addGroup(layout.createSequentialGroup()
                                                               .addGap(205, 205, 205)
@@ -941,6 +974,39 @@ public class GameBoard
         }
     }//GEN-LAST:event_ForwardButtonActionPerformed
     
+    private void HintButtonActionPerformed(java.awt.event.ActionEvent evt)//GEN-FIRST:event_HintButtonActionPerformed
+    {//GEN-HEADEREND:event_HintButtonActionPerformed
+        // never wait for the table here, or the whole window would freeze
+        if (this.hintEngine == null)
+        {
+            hintLabel.setText("No hints for this board");
+        }
+        else if (!this.hintEngine.isReady())
+        {
+            hintLabel.setText("Hint: still working it out, try again");
+        }
+        else
+        {
+            Move hint = this.hintEngine.nextMove(this.vehicles);
+
+            if (hint != null)
+            {
+                hintLabel.setText("Hint: " + hint.color() + " "
+                    + hint.spaces() + " " + hint.direction() + ", "
+                    + this.hintEngine.movesLeft(this.vehicles)
+                    + " moves left");
+            }
+            else if (this.hintEngine.movesLeft(this.vehicles) == 0)
+            {
+                hintLabel.setText("Hint: drive the red car out");
+            }
+            else
+            {
+                hintLabel.setText("Hint: the red car cannot escape");
+            }
+        }
+    }//GEN-LAST:event_HintButtonActionPerformed
+    
     /**
      * @param args the command line arguments
      */
@@ -1035,6 +1101,8 @@ public class GameBoard
     private javax.swing.JLabel Grid54;
     private javax.swing.JLabel Grid55;
     private javax.swing.JPanel GridPanel;
+    private javax.swing.JButton HintButton;
+    private javax.swing.JLabel hintLabel;
     private javax.swing.JLabel jLabel1;
     private javax.swing.JLabel jLabel2;
     private javax.swing.JLabel moveCounterLabel;
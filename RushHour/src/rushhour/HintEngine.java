@@ -0,0 +1,147 @@
+/**
+ * This class gives the next best move from any position of a puzzle.
+ *
+ * @version 1.0
+ *
+ * File: HintEngine.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: A HintEngine builds the DistanceTable of a puzzle once, since
+ * the table covers every state the puzzle can reach and costs more than
+ * solving it. prepare builds it on a thread of its own, so a GUI can start it
+ * when the puzzle is loaded and never wait for it on the event dispatch
+ * thread; isReady tells whether it is done. Without prepare, the first
+ * question builds it instead. Asking for a hint then costs one lookup for
+ * the position and one for each of its neighbors, never a search, no matter
+ * how far the player has wandered from the solution the Solver found.
+ * Nothing changes once the table is built, and no lock is held while it is
+ * read, so any number of threads may ask the engine for hints at once.
+ */
+
+package rushhour;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+public class HintEngine
+{
+    public HintEngine(final Puzzle puzzle)
+    {
+        this.puzzle = puzzle;
+        this.table = new FutureTask<>(new Callable<DistanceTable>()
+        {
+            @Override
+            public DistanceTable call()
+            {
+                return new DistanceTable(puzzle);
+            }
+        });
+    }
+
+    final private Puzzle puzzle;
+
+    // Run once, by prepare's thread or by whoever needs the table first
+    final private FutureTask<DistanceTable> table;
+
+    /**
+     * Starts building the distance table on a background thread, so that
+     * asking for a hint later is only a lookup. Calling it again does no
+     * harm, since the table is only ever built once.
+     */
+    public void prepare()
+    {
+        if (!this.table.isDone())
+        {
+            Thread builder = new Thread(this.table,
+                "hints for " + this.puzzle.name());
+            builder.setDaemon(true);
+            builder.start();
+        }
+    }
+
+    /**
+     * Tells whether hints can be given without waiting.
+     *
+     * @return true if the distance table has been built
+     */
+    public boolean isReady()
+    {
+        return this.table.isDone();
+    }
+
+    /**
+     * Finds a move that starts a shortest solution from a position.
+     *
+     * @param vehicles the vehicles of the puzzle, wherever they are now
+     * @return the move to make, or null if the red car is already at the exit
+     * or cannot escape
+     *
+     * The position must be reachable from the puzzle the engine was built
+     * for; anything else is an IllegalArgumentException.
+     */
+    public Move nextMove(ArrayList<Vehicle> vehicles)
+    {
+        DistanceTable distances = this.table();
+        PackedBoard packed = distances.packed();
+        long state = packed.encode(vehicles);
+        int distance = distances.distance(state);
+
+        if ((distance == DistanceTable.NOT_SOLVABLE) || (distance == 0))
+        {
+            return null;
+        }
+
+        return Solver.moveBetween(packed, this.puzzle, state,
+            distances.nextState(state));
+    }
+
+    /**
+     * Finds how many moves are left from a position.
+     *
+     * @param vehicles the vehicles of the puzzle, wherever they are now
+     * @return the fewest moves that put the red car at the exit, or
+     * DistanceTable.NOT_SOLVABLE
+     */
+    public int movesLeft(ArrayList<Vehicle> vehicles)
+    {
+        DistanceTable distances = this.table();
+
+        return distances.distance(distances.packed().encode(vehicles));
+    }
+
+    /**
+     * Gets the distance table, building it here if no other thread has
+     * started to, and otherwise waiting for that thread to finish.
+     *
+     * @return the distance table of the puzzle
+     */
+    private DistanceTable table()
+    {
+        // does nothing if the table is built or being built already
+        this.table.run();
+
+        try
+        {
+            return this.table.get();
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                "interrupted while the hint table was built", ex);
+        }
+        catch (ExecutionException ex)
+        {
+            if (ex.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) ex.getCause();
+            }
+
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * This class is the IDA* search mode of the Rush Hour solver.
+ *
+ * @version 1.0
+ *
+ * File: IdaStarSearch.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: IDA* runs depth first searches that give up on any path whose
+ * moves so far plus BlockingHeuristic estimate exceed a bound, raising the
+ * bound to the smallest value that was exceeded until a solution is found.
+ * Its memory is the current path plus a TranspositionTable, kept from one
+ * iteration to the next. A path reaching a state with more moves than any
+ * path before it, or with as many as a path before it in this iteration,
+ * goes no further: the better path reaches everything this one could in
+ * fewer moves, and every later iteration searches it again. Remembering the
+ * fewest moves across iterations is what keeps a depth first search from
+ * searching the same states over and over by longer and longer paths.
+ *
+ * Every iteration still searches everything within its bound, so on a
+ * puzzle with few states but a long solution IDA* expands many times more
+ * states than BFS. It is never used unless asked for.
+ *
+ * When a solution is found the path is copied into the workspace's state
+ * table as a chain of parents, so the Solver can rebuild the moves the same
+ * way it does for every other search.
+ */
+
+package rushhour;
+
+import java.util.Arrays;
+
+class IdaStarSearch
+{
+    /**
+     * Runs the IDA* search in a fresh workspace.
+     *
+     * @param work the workspace of the puzzle to solve
+     * @return the index of the solved state found, or NO_PARENT if the red car
+     * cannot escape
+     */
+    static int search(SearchWorkspace work)
+    {
+        PackedBoard packed = work.packed;
+        int width = packed.maxSuccessors();
+        BlockingHeuristic heuristic = new BlockingHeuristic(packed);
+        TranspositionTable table = new TranspositionTable();
+
+        // the current path, and the successors and next successor to try at
+        // every depth of it
+        long[] path = new long[64];
+        long[] successors = new long[64 * width];
+        int[] counts = new int[64];
+        int[] cursors = new int[64];
+
+        path[0] = packed.encode(work.puzzle.vehicles());
+        int bound = heuristic.estimate(path[0]);
+
+        // there is no table of every state, so the distinct states visited
+        // are the most entries any one iteration stamped; every iteration
+        // searches everything the last one did
+        work.visited = 0;
+        work.peakFrontier = 1;
+
+        if (packed.isSolved(path[0]))
+        {
+            work.visited = 1;
+            work.tableSize = 1;
+            work.tableCapacity = table.capacity();
+            work.endLevel(0);
+            return work.addPath(path, 0);
+        }
+
+        while (bound != Integer.MAX_VALUE)
+        {
+            int nextBound = Integer.MAX_VALUE;
+            int depth = 0;
+
+            table.nextIteration();
+            table.reach(path[0], 0);
+
+            counts[0] = packed.successors(path[0], successors);
+            cursors[0] = 0;
+            work.expanded++;
+            work.generated += counts[0];
+
+            while (depth >= 0)
+            {
+                if (cursors[depth] == counts[depth])
+                {
+                    depth--;
+                    continue;
+                }
+
+                long next = successors[depth * width + cursors[depth]];
+                cursors[depth]++;
+
+                int nextMoves = depth + 1;
+
+                // reached before by a path at least as good, which includes
+                // stepping straight back to where this path just was; such a
+                // path must not raise the next bound either, or on a puzzle
+                // with no solution the bound would creep up one move at a
+                // time for as long as the longest path through its states
+                if (table.isBeaten(next, nextMoves))
+                {
+                    work.duplicates++;
+                    continue;
+                }
+
+                int f = nextMoves + heuristic.estimate(next);
+
+                if (f > bound)
+                {
+                    nextBound = Math.min(nextBound, f);
+                    continue;
+                }
+
+                table.reach(next, nextMoves);
+                depth = nextMoves;
+
+                if (depth == path.length)
+                {
+                    path = Arrays.copyOf(path, depth * 2);
+                    successors = Arrays.copyOf(successors, depth * 2 * width);
+                    counts = Arrays.copyOf(counts, depth * 2);
+                    cursors = Arrays.copyOf(cursors, depth * 2);
+                }
+
+                path[depth] = next;
+                work.peakFrontier = Math.max(work.peakFrontier, depth + 1);
+
+                if (packed.isSolved(next))
+                {
+                    report(work, table);
+                    work.endLevel(0);
+                    return work.addPath(path, depth);
+                }
+
+                // fill this depth's slice of the successor array
+                counts[depth] = packed.successors(next, successors,
+                    depth * width);
+                cursors[depth] = 0;
+                work.expanded++;
+                work.generated += counts[depth];
+            }
+
+            // one iteration is one level, and nothing waits between them
+            report(work, table);
+            work.endLevel(0);
+            bound = nextBound;
+        }
+
+        return StateTable.NO_PARENT;
+    }
+
+    /**
+     * Copies the transposition table's counts into the workspace.
+     *
+     * @param work the workspace of the search
+     * @param table the transposition table
+     */
+    private static void report(SearchWorkspace work, TranspositionTable table)
+    {
+        work.tableSize = table.stamped();
+        work.tableCapacity = table.capacity();
+        work.visited = Math.max(work.visited, table.stamped());
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * This class is a growable list of moves packed into ints.
+ *
+ * @version 1.0
+ *
+ * File: MoveList.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: A Move holds two Strings and is an object of its own, which
+ * adds up when a service hands out thousands of solutions a second. Inside
+ * the solver a move is instead one int: the index of the vehicle in its
+ * puzzle, shifted left 8 bits, plus the signed number of spaces it moves in
+ * the low 8 bits, negative for left or up. A MoveList keeps those ints in a
+ * primitive array that doubles when it is full, and a move only becomes a
+ * Move object when toMove is asked for one.
+ */
+
+package rushhour;
+
+import java.util.Arrays;
+
+public class MoveList
+{
+    public MoveList()
+    {
+        this(16);
+    }
+
+    public MoveList(int capacity)
+    {
+        this.moves = new int[Math.max(capacity, 1)];
+        this.size = 0;
+    }
+
+    /**
+     * Makes a list that takes over an array of packed moves.
+     *
+     * @param moves the moves, which the list now owns
+     */
+    MoveList(int[] moves)
+    {
+        this.moves = moves;
+        this.size = moves.length;
+    }
+
+    private int[] moves;
+    private int size;
+
+    /**
+     * Packs a move into an int.
+     *
+     * @param vehicle the index of the vehicle in its puzzle
+     * @param delta the spaces it moves, negative for left or up
+     * @return the packed move
+     */
+    public static int encode(int vehicle, int delta)
+    {
+        return (vehicle << 8) | (delta & 0xFF);
+    }
+
+    /**
+     * Unpacks the vehicle of a packed move.
+     *
+     * @param move the packed move
+     * @return the index of the vehicle in its puzzle
+     */
+    public static int vehicle(int move)
+    {
+        return move >>> 8;
+    }
+
+    /**
+     * Unpacks the distance of a packed move.
+     *
+     * @param move the packed move
+     * @return the spaces the vehicle moves, negative for left or up
+     */
+    public static int delta(int move)
+    {
+        return (byte) move;
+    }
+
+    /**
+     * Finds the move that undoes a packed move.
+     *
+     * @param move the packed move
+     * @return the same vehicle moving the same distance the other way
+     */
+    public static int invert(int move)
+    {
+        return encode(vehicle(move), -delta(move));
+    }
+
+    /**
+     * Turns a packed move into a Move.
+     *
+     * @param move the packed move
+     * @param puzzle the puzzle whose vehicle moves
+     * @return the Move, with the vehicle's color and a direction of L, R, U
+     * or D
+     */
+    public static Move toMove(int move, Puzzle puzzle)
+    {
+        int i = vehicle(move);
+        int delta = delta(move);
+        String direction;
+
+        if (puzzle.isHorizontal(i))
+        {
+            direction = (delta < 0) ? "L" : "R";
+        }
+        else
+        {
+            direction = (delta < 0) ? "U" : "D";
+        }
+
+        return new Move(puzzle.color(i), Math.abs(delta), direction);
+    }
+
+    /**
+     * Adds a packed move to the end of the list.
+     *
+     * @param move the packed move
+     */
+    public void add(int move)
+    {
+        if (this.size == this.moves.length)
+        {
+            this.moves = Arrays.copyOf(this.moves, this.size * 2);
+        }
+
+        this.moves[this.size++] = move;
+    }
+
+    /**
+     * Gets a packed move.
+     *
+     * @param k the place of the move in the list
+     * @return the packed move
+     */
+    public int get(int k)
+    {
+        if (k >= this.size)
+        {
+            throw new IndexOutOfBoundsException(k + " of " + this.size);
+        }
+
+        return this.moves[k];
+    }
+
+    /**
+     * Counts the moves in the list.
+     *
+     * @return the number of moves
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Copies the packed moves out of the list.
+     *
+     * @return a new array holding every move, in order
+     */
+    public int[] toArray()
+    {
+        return Arrays.copyOf(this.moves, this.size);
+    }
+}
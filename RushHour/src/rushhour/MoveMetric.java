@@ -0,0 +1,32 @@
+/**
+ * This enum lists the ways the length of a solution can be counted.
+ *
+ * @version 1.0
+ *
+ * File: MoveMetric.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: A Solver searches for the solution that is shortest under its
+ * MoveMetric. Either way the length of a solution is its number of moves plus
+ * one for the red car leaving the board, and Move.spaces() says how far each
+ * move goes.
+ */
+
+package rushhour;
+
+public enum MoveMetric
+{
+    /**
+     * Every space a vehicle moves is one move, so every Move is one space.
+     */
+    SINGLE_SPACE,
+
+    /**
+     * Sliding a vehicle any number of spaces along its line is one move, the
+     * way published puzzles are scored. Solutions have fewer, longer moves
+     * and the search is much shallower.
+     */
+    SLIDE
+}
@@ -0,0 +1,572 @@
+/**
+ * This class packs Rush Hour board states into primitive longs.
+ *
+ * @version 1.0
+ *
+ * File: PackedBoard.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: The only thing that changes about a vehicle during a solve is
+ * its dynamic value, which is always between 0 and 4. This class stores the
+ * dynamic value of every vehicle in 3 bits of a single long, so a successor
+ * state can be made by adding or subtracting a shifted constant. The static
+ * parts of each vehicle (orientation, fixed coordinate and length) are kept
+ * in primitive arrays so that the 36-bit occupancy mask of a state can be
+ * built without touching any Vehicle objects.
+ *
+ * For every vehicle and every dynamic value the squares the vehicle covers and
+ * the square it would enter by moving one space either way are precomputed as
+ * masks, so finding the legal moves of a state is a handful of ANDs against
+ * its occupancy mask and never allocates. Under MoveMetric.SLIDE a vehicle
+ * keeps going one space at a time until it is blocked, and every space it
+ * reaches is a successor.
+ *
+ * Cell n of the occupancy mask is the square at column n % 6 and row n / 6.
+ * Walls, squares no vehicle may ever enter, are set in every occupancy mask.
+ */
+
+package rushhour;
+
+import java.util.ArrayList;
+
+public class PackedBoard
+{
+    public PackedBoard(ArrayList<Vehicle> vehicles)
+    {
+        this(vehicles, 0);
+    }
+
+    public PackedBoard(Puzzle puzzle)
+    {
+        this(puzzle, MoveMetric.SINGLE_SPACE);
+    }
+
+    public PackedBoard(Puzzle puzzle, MoveMetric metric)
+    {
+        this(puzzle.vehicles(), puzzle.walls(), metric);
+    }
+
+    public PackedBoard(ArrayList<Vehicle> vehicles, long walls)
+    {
+        this(vehicles, walls, MoveMetric.SINGLE_SPACE);
+    }
+
+    public PackedBoard(ArrayList<Vehicle> vehicles, long walls,
+        MoveMetric metric)
+    {
+        this.numCars = vehicles.size();
+        this.walls = walls;
+        this.metric = metric;
+
+        if (this.numCars > MAX_VEHICLES)
+        {
+            throw new IllegalArgumentException(
+                this.numCars + " vehicles do not fit in a packed state");
+        }
+
+        this.horizontal = new boolean[this.numCars];
+        this.fixed = new int[this.numCars];
+        this.length = new int[this.numCars];
+
+        int red = -1;
+
+        for (int i = 0; i < this.numCars; i++)
+        {
+            Vehicle v = vehicles.get(i);
+
+            this.horizontal[i] = v.orientation().equals("h");
+            this.fixed[i] = this.horizontal[i] ? v.y() : v.x();
+            this.length[i] = v.length();
+
+            if (v.color().equals("red"))
+            {
+                red = i;
+            }
+        }
+
+        this.redIndex = red;
+
+        this.cellMasks = new long[this.numCars][];
+        this.backMasks = new long[this.numCars][];
+        this.forwardMasks = new long[this.numCars][];
+
+        for (int i = 0; i < this.numCars; i++)
+        {
+            int positions = 7 - this.length[i];
+
+            this.cellMasks[i] = new long[positions];
+            this.backMasks[i] = new long[positions];
+            this.forwardMasks[i] = new long[positions];
+
+            for (int offset = 0; offset < positions; offset++)
+            {
+                for (int k = 0; k < this.length[i]; k++)
+                {
+                    this.cellMasks[i][offset] |=
+                        bit(this.square(i, offset + k));
+                }
+
+                // a mask of 0 means the vehicle is against the wall
+                if (offset > 0)
+                {
+                    this.backMasks[i][offset] =
+                        bit(this.square(i, offset - 1));
+                }
+                if (offset < positions - 1)
+                {
+                    this.forwardMasks[i][offset] =
+                        bit(this.square(i, offset + this.length[i]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of bits used to store the dynamic value of one vehicle.
+     */
+    public static final int BITS = 3;
+
+    /**
+     * The most vehicles that fit in one packed state.
+     */
+    public static final int MAX_VEHICLES = 64 / BITS;
+
+    /**
+     * The dynamic value of the red car once it reaches the exit.
+     */
+    public static final int EXIT_OFFSET = 4;
+
+    /**
+     * The move byte of a state that has no move before it. No vehicle has
+     * index 31.
+     */
+    static final byte NO_MOVE = (byte) 0xFF;
+
+    private static final long MASK = (1L << BITS) - 1;
+
+    final private int numCars;
+    final private long walls;
+    final private MoveMetric metric;
+    final private boolean[] horizontal;
+    final private int[] fixed;
+    final private int[] length;
+    final private int redIndex;
+    final private long[][] cellMasks;
+    final private long[][] backMasks;
+    final private long[][] forwardMasks;
+
+    /**
+     * Packs the current positions of the given vehicles into a state.
+     *
+     * @param vehicles the vehicles, in the same order this board was built
+     * with
+     * @return the packed state
+     */
+    public long encode(ArrayList<Vehicle> vehicles)
+    {
+        long state = 0;
+
+        for (int i = 0; i < this.numCars; i++)
+        {
+            Vehicle v = vehicles.get(i);
+            int offset = this.horizontal[i] ? v.x() : v.y();
+            state |= ((long) offset) << (BITS * i);
+        }
+
+        return state;
+    }
+
+    /**
+     * Gets the dynamic value of one vehicle in a packed state.
+     *
+     * @param state the packed state
+     * @param i the index of the vehicle
+     * @return the x position of a horizontal vehicle or the y position of a
+     * vertical one
+     */
+    public int offset(long state, int i)
+    {
+        return (int) ((state >>> (BITS * i)) & MASK);
+    }
+
+    /**
+     * Moves one vehicle along its line.
+     *
+     * @param state the packed state
+     * @param i the index of the vehicle to move
+     * @param delta the signed number of spaces to move
+     * @return the packed state after the move
+     *
+     * No bounds checking is done; the caller must know the move is legal.
+     */
+    public long move(long state, int i, int delta)
+    {
+        return state + (((long) delta) << (BITS * i));
+    }
+
+    /**
+     * Finds the vehicle that moved between two neighboring states.
+     *
+     * @param from the packed state before the move
+     * @param to the packed state after the move
+     * @return the index of the only vehicle whose dynamic value differs
+     */
+    public int movedVehicle(long from, long to)
+    {
+        return Long.numberOfTrailingZeros(from ^ to) / BITS;
+    }
+
+    /**
+     * Packs the move between two neighboring states into a byte.
+     *
+     * @param from the packed state before the move
+     * @param to the packed state after the move
+     * @return the index of the vehicle that moved times 8, plus spaces - 1
+     * for a move right or down or spaces + 3 for a move left or up
+     */
+    static byte reverseMove(long from, long to)
+    {
+        int vehicle = Long.numberOfTrailingZeros(from ^ to) / BITS;
+        int shift = BITS * vehicle;
+        int delta = (int) ((to >>> shift) & MASK)
+            - (int) ((from >>> shift) & MASK);
+        int code = (delta > 0) ? delta - 1 : 3 - delta;
+
+        return (byte) ((vehicle << 3) | code);
+    }
+
+    /**
+     * Undoes a move packed by reverseMove.
+     *
+     * @param to the packed state after the move
+     * @param move the packed move
+     * @return the packed state before the move
+     */
+    static long undoMove(long to, byte move)
+    {
+        int vehicle = (move & 0xFF) >>> 3;
+        int code = move & 7;
+        int delta = (code < 4) ? code + 1 : 3 - code;
+
+        return to - ((long) delta << (BITS * vehicle));
+    }
+
+    /**
+     * Builds the occupancy mask of a packed state.
+     *
+     * @param state the packed state
+     * @return a mask with one bit set for every occupied square
+     */
+    public long occupancy(long state)
+    {
+        long occupied = this.walls;
+
+        for (int i = 0; i < this.numCars; i++)
+        {
+            occupied |= this.cellMasks[i][this.offset(state, i)];
+        }
+
+        return occupied;
+    }
+
+    /**
+     * Finds every state one move away from a state.
+     *
+     * @param state the packed state
+     * @param successors the array to fill, at least maxSuccessors() long
+     * @return the number of successors written to the array
+     */
+    public int successors(long state, long[] successors)
+    {
+        return this.successors(state, successors, 0);
+    }
+
+    /**
+     * Finds every state one move away from a state, writing them into part of
+     * a larger array.
+     *
+     * @param state the packed state
+     * @param successors the array to fill
+     * @param from the first element to write; at least maxSuccessors()
+     * elements from here on must be free
+     * @return the number of successors written to the array
+     */
+    public int successors(long state, long[] successors, int from)
+    {
+        if (this.metric == MoveMetric.SLIDE)
+        {
+            return this.slides(state, successors, from);
+        }
+
+        long occupied = this.occupancy(state);
+        int count = from;
+
+        for (int i = 0; i < this.numCars; i++)
+        {
+            int shift = BITS * i;
+            int offset = (int) ((state >>> shift) & MASK);
+
+            long back = this.backMasks[i][offset];
+            if ((back != 0) && ((occupied & back) == 0))
+            {
+                successors[count++] = state - (1L << shift);
+            }
+
+            long forward = this.forwardMasks[i][offset];
+            if ((forward != 0) && ((occupied & forward) == 0))
+            {
+                successors[count++] = state + (1L << shift);
+            }
+        }
+
+        return count - from;
+    }
+
+    /**
+     * Finds every state one slide away from a state.
+     *
+     * @param state the packed state
+     * @param successors the array to fill
+     * @param from the first element to write
+     * @return the number of successors written to the array
+     */
+    private int slides(long state, long[] successors, int from)
+    {
+        long occupied = this.occupancy(state);
+        int count = from;
+
+        for (int i = 0; i < this.numCars; i++)
+        {
+            int shift = BITS * i;
+            int offset = (int) ((state >>> shift) & MASK);
+            long[] back = this.backMasks[i];
+            long[] forward = this.forwardMasks[i];
+
+            for (int at = offset; (back[at] != 0)
+                && ((occupied & back[at]) == 0); at--)
+            {
+                successors[count++] = state - ((long) (offset - at + 1)
+                    << shift);
+            }
+
+            for (int at = offset; (forward[at] != 0)
+                && ((occupied & forward[at]) == 0); at++)
+            {
+                successors[count++] = state + ((long) (at - offset + 1)
+                    << shift);
+            }
+        }
+
+        return count - from;
+    }
+
+    /**
+     * Gets the most successors any state of this board can have.
+     *
+     * @return the size of the array to pass to successors
+     */
+    public int maxSuccessors()
+    {
+        // a car can slide to any of the 4 other places on its line
+        return (this.metric == MoveMetric.SLIDE)
+            ? 4 * this.numCars
+            : 2 * this.numCars;
+    }
+
+    /**
+     * Gets the way moves are counted on this board.
+     *
+     * @return the move metric that successors follows
+     */
+    public MoveMetric metric()
+    {
+        return this.metric;
+    }
+
+    /**
+     * Gets the mask of the squares covered by a vehicle.
+     *
+     * @param i the index of the vehicle
+     * @param offset the dynamic value of the vehicle
+     * @return the mask of the covered squares
+     */
+    public long cells(int i, int offset)
+    {
+        return this.cellMasks[i][offset];
+    }
+
+    /**
+     * Gets the square index of a position along a vehicle's line.
+     *
+     * @param i the index of the vehicle
+     * @param position the position along the line, from 0 to 5
+     * @return the square index, from 0 to 35
+     */
+    public int square(int i, int position)
+    {
+        return this.horizontal[i]
+            ? this.fixed[i] * 6 + position
+            : position * 6 + this.fixed[i];
+    }
+
+    /**
+     * Tells whether the red car has reached the exit in a packed state.
+     *
+     * @param state the packed state
+     * @return true if the red car is next to the exit
+     */
+    public boolean isSolved(long state)
+    {
+        return (this.redIndex >= 0)
+            && (this.offset(state, this.redIndex) == EXIT_OFFSET);
+    }
+
+    /**
+     * Converts a packed state back into the old "dynamic value" String.
+     *
+     * @param state the packed state
+     * @return one digit per vehicle
+     *
+     * Useful with getAbstractBoardRepresentation when debugging a solve.
+     */
+    public String dynamicValue(long state)
+    {
+        StringBuilder answer = new StringBuilder(this.numCars);
+
+        for (int i = 0; i < this.numCars; i++)
+        {
+            answer.append(this.offset(state, i));
+        }
+
+        return answer.toString();
+    }
+
+    /**
+     * Gets the number of vehicles on the board.
+     *
+     * @return the number of vehicles
+     */
+    public int numCars()
+    {
+        return this.numCars;
+    }
+
+    /**
+     * Tells whether a vehicle moves left and right.
+     *
+     * @param i the index of the vehicle
+     * @return true for a horizontal vehicle
+     */
+    public boolean isHorizontal(int i)
+    {
+        return this.horizontal[i];
+    }
+
+    /**
+     * Gets the coordinate of a vehicle that never changes.
+     *
+     * @param i the index of the vehicle
+     * @return the row of a horizontal vehicle or the column of a vertical one
+     */
+    public int fixed(int i)
+    {
+        return this.fixed[i];
+    }
+
+    /**
+     * Finds the vehicle covering a square.
+     *
+     * @param state the packed state
+     * @param square the square index, from 0 to 35
+     * @return the index of the vehicle on the square, or -1 if it is empty
+     * or a wall
+     */
+    public int occupant(long state, int square)
+    {
+        long mask = bit(square);
+
+        for (int i = 0; i < this.numCars; i++)
+        {
+            if ((this.cellMasks[i][this.offset(state, i)] & mask) != 0)
+            {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Gets the length of a vehicle.
+     *
+     * @param i the index of the vehicle
+     * @return 2 for a car, 3 for a truck
+     */
+    public int length(int i)
+    {
+        return this.length[i];
+    }
+
+    /**
+     * Gets the index of the red car.
+     *
+     * @return the index of the red car, or -1 if there is none
+     */
+    public int redIndex()
+    {
+        return this.redIndex;
+    }
+
+    /**
+     * Gets the walls of the board.
+     *
+     * @return a mask with one bit set for every wall square
+     */
+    public long walls()
+    {
+        return this.walls;
+    }
+
+    /**
+     * Tells whether another board has the same vehicles in the same lanes,
+     * so that the packed states of one mean the same thing on the other.
+     *
+     * @param other the board to compare with
+     * @return true if every vehicle matches in orientation, fixed coordinate
+     * and length, the red car is the same vehicle and the walls are the same
+     */
+    public boolean sameLayout(PackedBoard other)
+    {
+        if ((this.numCars != other.numCars)
+            || (this.redIndex != other.redIndex)
+            || (this.walls != other.walls))
+        {
+            return false;
+        }
+
+        for (int i = 0; i < this.numCars; i++)
+        {
+            if ((this.horizontal[i] != other.horizontal[i])
+                || (this.fixed[i] != other.fixed[i])
+                || (this.length[i] != other.length[i]))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the mask bit for one square.
+     *
+     * @param square the square index, from 0 to 35
+     * @return the mask with only that square set
+     */
+    public static long bit(int square)
+    {
+        return 1L << square;
+    }
+}
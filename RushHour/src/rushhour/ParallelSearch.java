@@ -0,0 +1,205 @@
+/**
+ * This class is the parallel breadth first search mode of the Rush Hour
+ * solver.
+ *
+ * @version 1.0
+ *
+ * File: ParallelSearch.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: The search works one depth at a time. The states of the
+ * current depth are split into chunks that are expanded on a ForkJoinPool;
+ * every successor is offered to a ConcurrentStateSet, and the chunk that
+ * manages to add it keeps it for the next depth. The depths themselves are
+ * still searched in order, so the first depth containing a solved state gives
+ * the same optimal length as the sequential search.
+ */
+
+package rushhour;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ParallelSearch
+{
+    /**
+     * Chunks of the frontier at most this big are expanded by one thread.
+     */
+    static final int CHUNK_SIZE = 512;
+
+    /**
+     * Runs the parallel search in a fresh workspace.
+     *
+     * @param work the workspace of the puzzle to solve
+     * @param pool the threads to expand each depth on
+     * @return the index of the solved state found, or NO_PARENT if the red car
+     * cannot escape
+     */
+    static int search(SearchWorkspace work, ForkJoinPool pool)
+    {
+        PackedBoard packed = work.packed;
+        ConcurrentStateSet visited = new ConcurrentStateSet(
+            pool.getParallelism() * 16);
+
+        long start = packed.encode(work.puzzle.vehicles());
+        visited.add(start, ConcurrentStateSet.NO_PARENT);
+
+        if (packed.isSolved(start))
+        {
+            return work.addPath(new long[] {start}, 0);
+        }
+
+        long[] frontier = {start};
+        AtomicLong solvedState = new AtomicLong(ConcurrentStateSet.NO_PARENT);
+        AtomicInteger expanded = new AtomicInteger();
+        AtomicLong generated = new AtomicLong();
+
+        while ((frontier.length > 0)
+            && (solvedState.get() == ConcurrentStateSet.NO_PARENT))
+        {
+            frontier = pool.invoke(new Expansion(packed, visited, frontier, 0,
+                frontier.length, solvedState, expanded, generated));
+
+            work.expanded = expanded.get();
+            work.visited = visited.size();
+            work.endLevel(frontier.length);
+        }
+
+        work.generated = generated.get();
+        work.duplicates = work.generated - (work.visited - 1);
+        work.tableSize = work.visited;
+        work.tableCapacity = visited.capacity();
+
+        if (solvedState.get() == ConcurrentStateSet.NO_PARENT)
+        {
+            return StateTable.NO_PARENT;
+        }
+
+        // follow the parents back to the start, then store them in order
+        long[] path = new long[16];
+        int length = 0;
+
+        for (long state = solvedState.get();
+            state != ConcurrentStateSet.NO_PARENT;
+            state = visited.parent(state))
+        {
+            if (length == path.length)
+            {
+                path = Arrays.copyOf(path, length * 2);
+            }
+
+            path[length++] = state;
+        }
+
+        for (int i = 0; i < length / 2; i++)
+        {
+            long swap = path[i];
+            path[i] = path[length - 1 - i];
+            path[length - 1 - i] = swap;
+        }
+
+        return work.addPath(path, length - 1);
+    }
+
+    /**
+     * Expands part of one depth and returns the new states it found.
+     */
+    @SuppressWarnings("serial")
+    private static class Expansion
+        extends RecursiveTask<long[]>
+    {
+        Expansion(PackedBoard packed, ConcurrentStateSet visited,
+            long[] frontier, int from, int to, AtomicLong solvedState,
+            AtomicInteger expanded, AtomicLong generated)
+        {
+            this.packed = packed;
+            this.visited = visited;
+            this.frontier = frontier;
+            this.from = from;
+            this.to = to;
+            this.solvedState = solvedState;
+            this.expanded = expanded;
+            this.generated = generated;
+        }
+
+        final private PackedBoard packed;
+        final private ConcurrentStateSet visited;
+        final private long[] frontier;
+        final private int from;
+        final private int to;
+        final private AtomicLong solvedState;
+        final private AtomicInteger expanded;
+        final private AtomicLong generated;
+
+        @Override
+        protected long[] compute()
+        {
+            if (this.to - this.from > CHUNK_SIZE)
+            {
+                int middle = (this.from + this.to) >>> 1;
+
+                Expansion left = new Expansion(this.packed, this.visited,
+                    this.frontier, this.from, middle, this.solvedState,
+                    this.expanded, this.generated);
+                Expansion right = new Expansion(this.packed, this.visited,
+                    this.frontier, middle, this.to, this.solvedState,
+                    this.expanded, this.generated);
+
+                left.fork();
+                long[] rightStates = right.compute();
+                long[] leftStates = left.join();
+
+                long[] both = Arrays.copyOf(leftStates,
+                    leftStates.length + rightStates.length);
+                System.arraycopy(rightStates, 0, both, leftStates.length,
+                    rightStates.length);
+
+                return both;
+            }
+
+            long[] successors = new long[this.packed.maxSuccessors()];
+            long[] found = new long[(this.to - this.from) * 2];
+            int count = 0;
+            long generatedHere = 0;
+
+            for (int i = this.from; i < this.to; i++)
+            {
+                long state = this.frontier[i];
+                int successorCount = this.packed.successors(state, successors);
+                generatedHere += successorCount;
+
+                for (int k = 0; k < successorCount; k++)
+                {
+                    if (!this.visited.add(successors[k], state))
+                    {
+                        continue;
+                    }
+
+                    // every state of the next depth is as good as any other
+                    if (this.packed.isSolved(successors[k]))
+                    {
+                        this.solvedState.compareAndSet(
+                            ConcurrentStateSet.NO_PARENT, successors[k]);
+                    }
+
+                    if (count == found.length)
+                    {
+                        found = Arrays.copyOf(found, count * 2);
+                    }
+
+                    found[count++] = successors[k];
+                }
+            }
+
+            this.expanded.addAndGet(this.to - this.from);
+            this.generated.addAndGet(generatedHere);
+
+            return Arrays.copyOf(found, count);
+        }
+    }
+}
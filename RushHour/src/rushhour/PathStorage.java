@@ -0,0 +1,41 @@
+/**
+ * This enum lists the ways a search can remember how it reached each state.
+ *
+ * @version 1.0
+ *
+ * File: PathStorage.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: Every state a search reaches is kept in a StateTable along
+ * with enough to find the state it was reached from, so the moves of the
+ * solution can be rebuilt at the end. What is kept next to each state decides
+ * how much of the heap the table needs, and so how big a cluster of states
+ * can be searched at all.
+ */
+
+package rushhour;
+
+public enum PathStorage
+{
+    /**
+     * The index of the parent state, an int per state. Finding a parent is
+     * one array read.
+     */
+    PARENTS,
+
+    /**
+     * The move that reached the state, a byte per state. Finding a parent
+     * means undoing the move and looking the state before it up in the table
+     * again, which only happens while the path is rebuilt.
+     */
+    REVERSE_MOVES,
+
+    /**
+     * Nothing, so the solution has a length but no moves. A breadth first
+     * search then keeps only the set of states it has visited; the other
+     * searches still keep parents, but the moves are never built.
+     */
+    NONE
+}
@@ -0,0 +1,144 @@
+/**
+ * This class defines a Rush Hour puzzle.
+ *
+ * @version 1.0
+ *
+ * File: Puzzle.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: A Puzzle is the starting position of every vehicle in a Rush
+ * Hour game. It keeps its own copies of the vehicles and only ever hands out
+ * copies, so a Puzzle never changes once it is built and can be given to the
+ * Solver or to a GameBoard without either one disturbing the other.
+ *
+ * A puzzle may also have walls: squares that no vehicle can ever enter. The
+ * .dat format has no way to write them, but the one-line boards read by
+ * CorpusReader do.
+ */
+
+package rushhour;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Puzzle
+{
+    public Puzzle(String name, List<Vehicle> vehicles)
+    {
+        this(name, vehicles, 0);
+    }
+
+    public Puzzle(String name, List<Vehicle> vehicles, long walls)
+    {
+        this.name = name;
+        this.walls = walls;
+        this.vehicles = new ArrayList<>(vehicles.size());
+
+        for (Vehicle v : vehicles)
+        {
+            this.vehicles.add(new Vehicle(v));
+        }
+    }
+
+    final private String name;
+    final private ArrayList<Vehicle> vehicles;
+    final private long walls;
+
+    /**
+     * Reads a puzzle from a file in the text format of game1.dat or the
+     * binary format of PuzzleParser.
+     *
+     * @param fileName the name of the file containing the Rush Hour game
+     * vehicles and positions.
+     * @return the puzzle, named after the file
+     * @throws FileNotFoundException thrown if the specified file is not found
+     */
+    public static Puzzle read(String fileName)
+        throws FileNotFoundException
+    {
+        return PuzzleParser.read(fileName);
+    }
+
+    /**
+     * Gets the name of the puzzle.
+     *
+     * @return the name given when the puzzle was built, usually a file name
+     */
+    public String name()
+    {
+        return this.name;
+    }
+
+    /**
+     * Gets the number of vehicles in the puzzle.
+     *
+     * @return the number of vehicles
+     */
+    public int numCars()
+    {
+        return this.vehicles.size();
+    }
+
+    /**
+     * Gets a copy of one vehicle at its starting position.
+     *
+     * @param i the index of the vehicle
+     * @return a new Vehicle that may be moved freely
+     */
+    public Vehicle vehicle(int i)
+    {
+        return new Vehicle(this.vehicles.get(i));
+    }
+
+    /**
+     * Gets copies of all the vehicles at their starting positions.
+     *
+     * @return a new list of new Vehicles, in puzzle order
+     */
+    public ArrayList<Vehicle> vehicles()
+    {
+        ArrayList<Vehicle> copies = new ArrayList<>(this.vehicles.size());
+
+        for (Vehicle v : this.vehicles)
+        {
+            copies.add(new Vehicle(v));
+        }
+
+        return copies;
+    }
+
+    /**
+     * Gets the walls of the puzzle.
+     *
+     * @return a mask with bit row * 6 + column set for every wall square
+     */
+    public long walls()
+    {
+        return this.walls;
+    }
+
+    /**
+     * Tells whether one vehicle moves left and right, without copying it.
+     *
+     * @param i the index of the vehicle
+     * @return true if the vehicle is horizontal
+     */
+    public boolean isHorizontal(int i)
+    {
+        return this.vehicles.get(i).orientation().equals("h");
+    }
+
+    /**
+     * Gets the color of one vehicle without copying it.
+     *
+     * @param i the index of the vehicle
+     * @return the String color value of the vehicle
+     */
+    public String color(int i)
+    {
+        return this.vehicles.get(i).color();
+    }
+}
@@ -0,0 +1,463 @@
+/**
+ * This class reads Rush Hour puzzles from text or binary files.
+ *
+ * @version 1.0
+ *
+ * File: PuzzleParser.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: A PuzzleParser reads puzzles one at a time straight out of a
+ * ByteBuffer. The text format is the one of game1.dat: a vehicle count, then
+ * type, color, orientation, row and column for each vehicle, all separated by
+ * whitespace. Numbers are read digit by digit and words are matched against
+ * the known names in place, so apart from the Vehicles themselves nothing is
+ * allocated per token. Malformed text is handled the way the old Scanner
+ * loop handled it: a missing word is empty, and a number that is missing or
+ * not a number is 0 and is not consumed.
+ *
+ * A binary file starts with the bytes R H B 1, followed by the puzzles. Each
+ * puzzle is one byte holding the vehicle count, then two bytes per vehicle:
+ * the first is the bits htxxxyyy, set for horizontal and for a truck, with
+ * the 0-based column and row; the second is the color's index in
+ * Vehicle.COLOR_NAMES. Either format may hold any number of puzzles one
+ * after another.
+ */
+
+package rushhour;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class PuzzleParser
+{
+    public PuzzleParser(ByteBuffer buffer, String name)
+    {
+        this.buffer = buffer;
+        this.name = name;
+        this.count = 0;
+        this.binary = startsWithMagic(buffer);
+
+        if (this.binary)
+        {
+            buffer.position(buffer.position() + MAGIC.length);
+        }
+    }
+
+    /**
+     * The first bytes of every binary puzzle file.
+     */
+    static final byte[] MAGIC = {'R', 'H', 'B', '1'};
+
+    private static final String[] TYPES = {"car", "truck"};
+    private static final String[] ORIENTATIONS = {"h", "v"};
+
+    final private ByteBuffer buffer;
+    final private String name;
+    final private boolean binary;
+    private int count;
+
+    /**
+     * Reads the first puzzle of a file.
+     *
+     * @param fileName the name of a text or binary puzzle file
+     * @return the puzzle, named after the file
+     * @throws FileNotFoundException thrown if the file is not found or cannot
+     * be read
+     */
+    public static Puzzle read(String fileName)
+        throws FileNotFoundException
+    {
+        PuzzleParser parser = new PuzzleParser(load(fileName), fileName);
+
+        return parser.hasNext()
+            ? parser.next()
+            : new Puzzle(fileName, new ArrayList<Vehicle>());
+    }
+
+    /**
+     * Reads every puzzle of a file.
+     *
+     * @param fileName the name of a text or binary puzzle file
+     * @return the puzzles in file order, named the way next names them
+     * @throws FileNotFoundException thrown if the file is not found or cannot
+     * be read
+     * @throws IllegalArgumentException thrown if a binary puzzle is cut short
+     */
+    public static List<Puzzle> readAll(String fileName)
+        throws FileNotFoundException
+    {
+        PuzzleParser parser = new PuzzleParser(load(fileName), fileName);
+        ArrayList<Puzzle> puzzles = new ArrayList<>();
+
+        while (parser.hasNext())
+        {
+            puzzles.add(parser.next());
+        }
+
+        return puzzles;
+    }
+
+    /**
+     * Reads a whole file into a buffer.
+     *
+     * @param fileName the name of the file
+     * @return a buffer holding every byte of the file
+     * @throws FileNotFoundException thrown if the file is not found or cannot
+     * be read
+     */
+    public static ByteBuffer load(String fileName)
+        throws FileNotFoundException
+    {
+        try (FileInputStream in = new FileInputStream(fileName))
+        {
+            FileChannel channel = in.getChannel();
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+
+            while (buffer.hasRemaining() && (channel.read(buffer) >= 0))
+            {
+                // keep reading until the file is all in
+            }
+
+            buffer.flip();
+
+            return buffer;
+        }
+        catch (FileNotFoundException ex)
+        {
+            throw ex;
+        }
+        catch (IOException ex)
+        {
+            // callers already treat a file they cannot read as missing
+            throw new FileNotFoundException(fileName + ": " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Writes puzzles in the binary format.
+     *
+     * @param puzzles the puzzles to write, none of which may have walls
+     * @return the bytes of a binary puzzle file holding them, in order
+     */
+    public static byte[] toBinary(List<Puzzle> puzzles)
+    {
+        int size = MAGIC.length;
+
+        for (Puzzle puzzle : puzzles)
+        {
+            if (puzzle.walls() != 0)
+            {
+                throw new IllegalArgumentException(puzzle.name()
+                    + " has walls, which the binary format cannot hold");
+            }
+
+            size += 1 + 2 * puzzle.numCars();
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.put(MAGIC);
+
+        for (Puzzle puzzle : puzzles)
+        {
+            out.put((byte) puzzle.numCars());
+
+            for (int i = 0; i < puzzle.numCars(); i++)
+            {
+                Vehicle v = puzzle.vehicle(i);
+
+                out.put((byte) ((v.orientation().equals("h") ? 0x80 : 0)
+                    | (v.type().equals("truck") ? 0x40 : 0)
+                    | (v.x() << 3)
+                    | v.y()));
+                out.put((byte) indexOf(Vehicle.COLOR_NAMES, v.color()));
+            }
+        }
+
+        return out.array();
+    }
+
+    /**
+     * Tells whether there is another puzzle to read.
+     *
+     * @return true if anything but whitespace is left
+     */
+    public boolean hasNext()
+    {
+        if (!this.binary)
+        {
+            this.skipWhitespace();
+        }
+
+        return this.buffer.hasRemaining();
+    }
+
+    /**
+     * Reads the next puzzle.
+     *
+     * @return the puzzle, named after the parser's name, followed by # and
+     * its number if it is not the first
+     * @throws IllegalArgumentException thrown if a binary puzzle is cut
+     * short, after which nothing more is read
+     */
+    public Puzzle next()
+    {
+        if (!this.hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+
+        String puzzleName = (this.count == 0)
+            ? this.name
+            : this.name + "#" + (this.count + 1);
+        this.count++;
+
+        int start = this.buffer.position();
+        ArrayList<Vehicle> parsed = this.binary
+            ? this.nextBinary()
+            : this.nextText();
+
+        // a count that is not a number is left unread, so skip it or the
+        // next call would find it again
+        if (this.buffer.position() == start)
+        {
+            this.buffer.position(this.tokenEnd());
+        }
+
+        return new Puzzle(puzzleName, parsed);
+    }
+
+    private ArrayList<Vehicle> nextBinary()
+    {
+        int numCars = this.buffer.get() & 0xFF;
+
+        if (this.buffer.remaining() < 2 * numCars)
+        {
+            // the rest of the file cannot be lined up with puzzles again
+            this.buffer.position(this.buffer.limit());
+            throw new IllegalArgumentException(this.name + ": puzzle "
+                + this.count + " is cut short");
+        }
+
+        ArrayList<Vehicle> parsed = new ArrayList<>(numCars);
+
+        for (int i = 0; i < numCars; i++)
+        {
+            int bits = this.buffer.get() & 0xFF;
+            int color = this.buffer.get() & 0xFF;
+
+            add(parsed, TYPES[(bits >>> 6) & 1],
+                (color < Vehicle.COLOR_NAMES.length)
+                    ? Vehicle.COLOR_NAMES[color]
+                    : "color " + color,
+                (bits >>> 3) & 7, bits & 7, ORIENTATIONS[(bits >>> 7) ^ 1]);
+        }
+
+        return parsed;
+    }
+
+    private ArrayList<Vehicle> nextText()
+    {
+        int numCars = this.nextInt();
+        ArrayList<Vehicle> parsed = new ArrayList<>(Math.max(numCars, 0));
+
+        for (int i = 0; i < numCars; i++)
+        {
+            String type = this.nextWord(TYPES);
+            String color = this.nextWord(Vehicle.COLOR_NAMES);
+            String orientation = this.nextWord(ORIENTATIONS);
+            int y = this.nextInt() - 1;
+            int x = this.nextInt() - 1;
+
+            add(parsed, type, color, x, y, orientation);
+        }
+
+        return parsed;
+    }
+
+    /**
+     * Makes a vehicle and adds it to a list, reporting a bad one the way
+     * parsing always has.
+     */
+    private static void add(ArrayList<Vehicle> parsed, String type,
+        String color, int x, int y, String orientation)
+    {
+        try
+        {
+            parsed.add(new Vehicle(type, color, x, y, orientation));
+        }
+        catch (VehicleConstructorError ex)
+        {
+            String msg = "Error during vehicle construction while parsing ";
+            msg += "the input file:" + ex.getMessage();
+            System.out.println(msg);
+        }
+    }
+
+    /**
+     * Reads a whitespace separated number, like Scanner.nextInt.
+     *
+     * @return the number, or 0 without consuming anything if the next token
+     * is not a number
+     */
+    private int nextInt()
+    {
+        this.skipWhitespace();
+
+        int start = this.buffer.position();
+        int end = this.tokenEnd();
+        int position = start;
+        boolean negative = false;
+
+        if ((position < end) && ((this.buffer.get(position) == '-')
+            || (this.buffer.get(position) == '+')))
+        {
+            negative = this.buffer.get(position) == '-';
+            position++;
+        }
+
+        if (position == end)
+        {
+            return 0;
+        }
+
+        int value = 0;
+
+        for (; position < end; position++)
+        {
+            int digit = this.buffer.get(position) - '0';
+
+            if ((digit < 0) || (digit > 9))
+            {
+                return 0;
+            }
+
+            value = value * 10 + digit;
+        }
+
+        this.buffer.position(end);
+
+        return negative ? -value : value;
+    }
+
+    /**
+     * Reads a whitespace separated word.
+     *
+     * @param known the words expected here
+     * @return the matching String from known, a new String if the word is not
+     * one of them, or "" at the end of the buffer
+     */
+    private String nextWord(String[] known)
+    {
+        this.skipWhitespace();
+
+        int start = this.buffer.position();
+        int end = this.tokenEnd();
+        this.buffer.position(end);
+
+        for (String word : known)
+        {
+            if (this.matches(start, end, word))
+            {
+                return word;
+            }
+        }
+
+        byte[] bytes = new byte[end - start];
+
+        for (int k = 0; k < bytes.length; k++)
+        {
+            bytes[k] = this.buffer.get(start + k);
+        }
+
+        return new String(bytes);
+    }
+
+    private boolean matches(int start, int end, String word)
+    {
+        if (end - start != word.length())
+        {
+            return false;
+        }
+
+        for (int k = 0; k < word.length(); k++)
+        {
+            if (this.buffer.get(start + k) != word.charAt(k))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void skipWhitespace()
+    {
+        int position = this.buffer.position();
+
+        while ((position < this.buffer.limit())
+            && isWhitespace(this.buffer.get(position)))
+        {
+            position++;
+        }
+
+        this.buffer.position(position);
+    }
+
+    private int tokenEnd()
+    {
+        int position = this.buffer.position();
+
+        while ((position < this.buffer.limit())
+            && !isWhitespace(this.buffer.get(position)))
+        {
+            position++;
+        }
+
+        return position;
+    }
+
+    private static boolean isWhitespace(byte b)
+    {
+        return (b == ' ') || (b == '\n') || (b == '\r') || (b == '\t')
+            || (b == '\f');
+    }
+
+    private static boolean startsWithMagic(ByteBuffer buffer)
+    {
+        if (buffer.remaining() < MAGIC.length)
+        {
+            return false;
+        }
+
+        for (int k = 0; k < MAGIC.length; k++)
+        {
+            if (buffer.get(buffer.position() + k) != MAGIC[k])
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int indexOf(String[] names, String name)
+    {
+        for (int k = 0; k < names.length; k++)
+        {
+            if (names[k].equals(name))
+            {
+                return k;
+            }
+        }
+
+        throw new IllegalArgumentException(name + " has no binary color code");
+    }
+}
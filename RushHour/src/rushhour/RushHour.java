@@ -9,44 +9,99 @@
  * Copyright Cedarville University, its Computer Science faculty, and the
  * authors. All rights reserved.
  *
- * Description: This class contains all of the methods to solve the Rush Hour
- * game for a given input file, and then pass the solution to a GameBoard GUI.
+ * Description: This class reads the Rush Hour game for a given input file,
+ * solves it with the Solver, and then passes the solution to a GameBoard GUI
+ * if there is one.
  *
- * On the command line, run as java -jar RushHour.jar [filename] to solve the
- * file and open the solution in a GUI.
- * 
- * Algorithm overview:
- * 1. make a queue and make the initial value be the first dynamic value of the
- *    board
- * 2. while the queue is not empty, pop the front
- * 3. if the dequeued dynamic value has not been visited, find all adjacent
- *    moves and push them onto the back of the queue
- * 4. repeat step 2 - 4 until the red car escapes
+ * On the command line, run as java -jar RushHour.jar [--headless] [filename]
+ * to solve the file and open the solution in a GUI. With --headless the
+ * solution is only printed and no GUI classes are loaded. Run as
+ * java -jar RushHour.jar --batch [file|dir]... to solve many files at once,
+ * or java -jar RushHour.jar --corpus [file]... to solve every one-line board
+ * of some large corpus files.
+ * Either way, --mode=NAME picks the SearchMode with that name, for example
+ * --mode=A_STAR or --mode=PARALLEL_BFS, and --db=FILE keeps solutions in a
+ * SolutionDatabase file so a puzzle solved before is never searched again.
+ * --cache=N keeps the last N solutions in memory, which pays off when a batch
+ * repeats puzzles. --metric=SLIDE counts sliding a vehicle any distance as
+ * one move instead of counting every space. --paths=REVERSE_MOVES keeps a
+ * byte per state to rebuild the solution from instead of a parent index,
+ * and --paths=NONE only counts the moves of the solution.
+ * java -jar RushHour.jar --convert=OUT [file]... writes every puzzle of the
+ * files to OUT in the binary format of PuzzleParser instead of solving them.
+ * --stats prints how long every level of every search took and everything
+ * the Solver counted.
  */
 package rushhour;
 
-import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Queue;
-import java.util.Scanner;
+import java.util.Collections;
 
 public class RushHour
 {
     public RushHour(GameBoard board)
+    {
+        this(board, SOLVER);
+    }
+
+    public RushHour(GameBoard board, Solver solver)
     {
         this.numCars = 0;
         this.vehicles = new ArrayList<>();
         this.lastMove = new ArrayList<>();
+        this.pushedMoves = new ArrayList<>();
         this.board = board;
+        this.solver = solver;
     }
 
     private int numCars;
     final private ArrayList<Vehicle> vehicles;
     final private ArrayList<Move> lastMove;
+    // moves given to pushLastMove since moves() was last called, latest last
+    final private ArrayList<Move> pushedMoves;
     final private GameBoard board;
+    final private Solver solver;
+
+    // Solvers keep no state between solves, so every game shares this one.
+    private static final Solver SOLVER = new Solver();
+
+    // The most memory --cache may use, whatever number of entries it is given
+    private static final long CACHE_BYTES = 64L << 20;
+
+    // Prints what --stats asks for. println is synchronized, so the lines of
+    // puzzles solved at the same time never run into each other.
+    private static final SolverListener STATS_PRINTER = new SolverListener()
+    {
+        @Override
+        public void levelFinished(Puzzle puzzle, int level, int nodes,
+            int frontier, long elapsedNanos)
+        {
+            System.out.println(puzzle.name() + " level " + level + ": "
+                + nodes + " expanded, " + frontier + " waiting, "
+                + (elapsedNanos / 1000) + " us");
+        }
+
+        @Override
+        public void solveFinished(Puzzle puzzle, SolveResult result)
+        {
+            System.out.println(puzzle.name() + ": "
+                + result.statistics().details());
+        }
+    };
+
+    /**
+     * Creates a RushHour game that only prints its solutions.
+     *
+     * Nothing from the AWT or Swing is loaded by a game without a board.
+     */
+    public RushHour()
+    {
+        this(null);
+    }
 
     /**
      * This method solves the Rush Hour game with the given input file name.
@@ -56,236 +111,65 @@ public class RushHour
      * @return the length of the solution, including the last move of the red
      * car off the board
      * @throws FileNotFoundException thrown if the input file is not found
+     *
+     * If this game has a GameBoard, the board is shown and given the vehicles
+     * and the solution.
      */
     public int solve(String inputFileName)
         throws FileNotFoundException
     {
         // Create and display the GameBoard
-        java.awt.EventQueue.invokeLater(new Runnable()
+        if (board != null)
         {
-            @Override
-            public void run()
+            java.awt.EventQueue.invokeLater(new Runnable()
             {
-                board.setVisible(true);
-            }
-        });
-
-        // populate the internal variables with game information
-        this.parseInput(inputFileName);
-
-        // add all vehicles to the GUI board
-        for (Vehicle v : this.vehicles)
-        {
-            board.addVehicle(v);
+                @Override
+                public void run()
+                {
+                    board.setVisible(true);
+                }
+            });
         }
 
-        // Keys are dynamic values created from the current board state.
-        // Values contain the previous dynamic value and the Move subsequently
-        // taken.
-        HashMap<String, DynamicMove> moves = new HashMap();
+        // forget the solution of any earlier solve
+        this.lastMove.clear();
+        this.pushedMoves.clear();
 
-        // First move's parent is null
-        String dynamicParentString = null;
-
-        ArrayList<Vehicle> dynamicVehicles = this.getVehicles();
-
-        //Put the dynamic info inot a string
-        String dynamicInfo = "";
+        // populate the internal variables with game information
+        this.parseInput(inputFileName);
 
-        //This is to keep track of the red car
-        Integer redIndex = 0;
+        // the puzzle keeps its own copies, so the board may move these
+        Puzzle puzzle = new Puzzle(inputFileName, this.vehicles);
 
-        for (int i = 0; i < this.numCars; i++)
+        // add all vehicles to the GUI board
+        if (board != null)
         {
-            dynamicInfo += dynamicVehicles.get(i).dynamicValue();
-            if (dynamicVehicles.get(i).color().equals("red"))
+            for (Vehicle v : this.vehicles)
             {
-                redIndex = i;
+                board.addVehicle(v);
             }
-        }
-
-        //Put the first node in the hashmap
-        moves.put(dynamicInfo, new DynamicMove(dynamicParentString, null));
-
-        // This is the queue we will use to do the breadth first search
-        Queue<String> dynamicMoveValuesQueue = new LinkedList();
-
-        //Put the first node on the queue
-        dynamicMoveValuesQueue.add(dynamicInfo);
-
-        //Tell if the game is over
-        boolean solved = false;
-
-        //String to hold the last move
-        String winningDynamicString = "";
-
-        // This is an array representation of the board with the first index 
-        // being  the number of the row and the second being the number of the 
-        // column
-        String[][] abstractBoard = new String[6][6];
-
-        //This loop will do the search
-        while ((!dynamicMoveValuesQueue.isEmpty()) && (!solved))
-        {
-            //Get node
-            String queueFront = dynamicMoveValuesQueue.poll();
-
-            //Get array representation of the board
-            abstractBoard = this.getAbstractBoardRepresentation(queueFront);
 
-            //Loop through all the cars to get all the possible moves
-            for (int i = 0; i < this.numCars; i++)
-            {
-
-                Vehicle currentCar = dynamicVehicles.get(i);
-                String orient = currentCar.orientation();
-                int x;
-                int y;
-
-                //If the car is horizontal
-                if (orient.equals("h"))
-                {
-                    //Get the dynamic variable from the dynamic value string
-                    x = Integer.parseInt(queueFront.substring(i, i + 1));
-                    y = currentCar.y();
-
-                    //If it is possible to move the car to the left
-                    if (x != 0)
-                    {
-                        if (abstractBoard[y][x - 1].equals("_"))
-                        {
-                            //Make dynamic string to match the move
-                            String leftMove = queueFront.substring(0, i)
-                                + Integer.toString(x - 1)
-                                + queueFront.substring(i + 1, this.numCars);
-
-                            //See if this move has been done before
-                            if (!moves.containsKey(leftMove))
-                            {
-                                //parent is the previous move
-                                dynamicParentString = queueFront;
-
-                                //Put it in the hashtable
-                                moves.put(leftMove, new DynamicMove(
-                                    dynamicParentString, new Move(
-                                        currentCar.color(), 1, "L")));
-
-                                //Add node to the queue
-                                dynamicMoveValuesQueue.add(leftMove);
-                            }
-                        }
-                    }
-
-                    //See if the car can move right
-                    if ((x + currentCar.length() - 1 < 5)
-                        && 
-                        (abstractBoard[y][x + currentCar.length()].equals("_")))
-                    {
-                        //Make dynamic string to match the move
-                        String rightMove = queueFront.substring(0, i)
-                            + Integer.toString(x + 1)
-                            + queueFront.substring(i + 1, this.numCars);
-
-                        //See if this move has been done before
-                        if (!moves.containsKey(rightMove))
-                        {
-                            //Its parent is the previous move
-                            dynamicParentString = queueFront;
-
-                            //Put it in the hashtable
-                            moves.put(rightMove,
-                                new DynamicMove(dynamicParentString,
-                                    new Move(currentCar.color(), 1, "R")));
-
-                            //Add node to the queue
-                            dynamicMoveValuesQueue.add(rightMove);
-                        }
-                    }
-                }
-                //If the car is vertical
-                else
-                {
-                    x = currentCar.x();
-
-                    //Get the dynamic variable from the string
-                    y = Integer.parseInt(queueFront.substring(i, i + 1));
-
-                    //See of the car can move up
-                    if (y != 0)
-                    {
-                        if (abstractBoard[y - 1][x].equals("_"))
-                        {
-                            //Make dynamic string to match the move
-                            String upMove = queueFront.substring(0, i)
-                                + Integer.toString(y - 1)
-                                + queueFront.substring(i + 1, this.numCars);
-
-                            //See if this move has been done before
-                            if (!moves.containsKey(upMove))
-                            {
-                                //Its parent is the previous move
-                                dynamicParentString = queueFront;
-
-                                //Put it in the hashtable
-                                moves.put(upMove, new DynamicMove(
-                                    dynamicParentString,
-                                    new Move(
-                                        currentCar.color(), 1, "U")));
-
-                                //Add to the queue
-                                dynamicMoveValuesQueue.add(upMove);
-                            }
-                        }
-                    }
-
-                    //See if a move down is possible
-                    if ((y + currentCar.length() - 1 < 5)
-                        && 
-                        (abstractBoard[y + currentCar.length()][x].equals("_")))
-                    {
-                        //Make a dynamic string to match the move
-                        String downMove = queueFront.substring(0, i)
-                            + Integer.toString(y + 1)
-                            + queueFront.substring(i + 1, this.numCars);
-
-                        //See if the move has been done before
-                        if (!moves.containsKey(downMove))
-                        {
-                            //Its parent is the previous move
-                            dynamicParentString = queueFront;
-
-                            //Put it in the hash table
-                            moves.put(downMove,
-                                new DynamicMove(dynamicParentString,
-                                    new Move(currentCar.color(), 1, "D")));
-
-                            //Add to the queue
-                            dynamicMoveValuesQueue.add(downMove);
-                        }
-                    }
-                }
-
-                //This will stop the loop is the red car gets to the exit point
-                if (queueFront.substring(redIndex, redIndex + 1).equals("4"))
-                {
-                    solved = true;
-                    winningDynamicString = queueFront;
-                    break;
-                }
-            }
+            // the table is built on its own thread while the puzzle is
+            // solved, so pressing Hint is only ever a lookup
+            HintEngine hints = new HintEngine(puzzle);
+            hints.prepare();
+            board.setHintEngine(hints);
         }
 
-        if (solved)
+        SolveResult result = this.solver.solve(puzzle);
+
+        if (result.isSolved())
         {
-            String currentMove = winningDynamicString;
+            this.lastMove.addAll(result.moves());
 
-            while (moves.get(currentMove).parent() != null)
+            if (board != null)
             {
-                this.pushLastMove(moves.get(currentMove).move());
-                currentMove = moves.get(currentMove).parent();
+                Object handoffEvent = SolverEvents.begin(SolverEvents.HANDOFF);
+                board.setMoves(this.moves());
+                SolverEvents.commit(handoffEvent, puzzle.name(),
+                    this.lastMove.size(), 0,
+                    result.statistics().statesVisited());
             }
-
-            board.setMoves(this.moves());
         }
         else
         {
@@ -293,8 +177,9 @@ public class RushHour
         }
 
         // returns one bigger because the last move is moving off the board, 
-        // which is not allowed by the Vehicle class.
-        return lastMove.size() + 1;
+        // which is not allowed by the Vehicle class. A solver that only
+        // counts the moves gives the length without them.
+        return result.hasMoves() ? lastMove.size() + 1 : result.length();
     }
 
     /**
@@ -306,7 +191,7 @@ public class RushHour
 
         int i = 1;
 
-        for (Move move : this.lastMove)
+        for (Move move : this.moves())
         {
             System.out.println(
                 i + ": "
@@ -329,7 +214,9 @@ public class RushHour
      */
     public void pushLastMove(Move move)
     {
-        this.lastMove.add(0, move);
+        // adding at the front would shift the whole list every time, so the
+        // pushes are kept in order and put in front once moves() is called
+        this.pushedMoves.add(move);
     }
 
     /**
@@ -341,6 +228,13 @@ public class RushHour
      */
     public ArrayList<Move> moves()
     {
+        if (!this.pushedMoves.isEmpty())
+        {
+            Collections.reverse(this.pushedMoves);
+            this.lastMove.addAll(0, this.pushedMoves);
+            this.pushedMoves.clear();
+        }
+
         return this.lastMove;
     }
 
@@ -366,58 +260,15 @@ public class RushHour
     public void parseInput(String fileName)
         throws FileNotFoundException
     {
-        Scanner scan = new Scanner(new File(fileName));
-        if (scan.hasNextInt())
-        {
-            this.numCars = scan.nextInt();
-        }
-        for (int i = 0; i < numCars; i++)
-        {
-            String type = "";
-
-            if (scan.hasNext())
-            {
-                type = scan.next();
-            }
+        Object parseEvent = SolverEvents.begin(SolverEvents.PARSE);
+        ArrayList<Vehicle> parsed = Puzzle.read(fileName).vehicles();
 
-            String color = "";
+        // replace the vehicles of any file parsed before
+        this.vehicles.clear();
+        this.vehicles.addAll(parsed);
+        this.numCars = parsed.size();
 
-            if (scan.hasNext())
-            {
-                color = scan.next();
-            }
-
-            String orientation = "";
-
-            if (scan.hasNext())
-            {
-                orientation = scan.next();
-            }
-
-            int y = 0;
-
-            if (scan.hasNextInt())
-            {
-                y = scan.nextInt() - 1;
-            }
-
-            int x = 0;
-
-            if (scan.hasNextInt())
-            {
-                x = scan.nextInt() - 1;
-            }
-            try
-            {
-                this.vehicles.add(new Vehicle(type, color, x, y, orientation));
-            }
-            catch (VehicleConstructorError ex)
-            {
-                String msg = "Error during vehicle construction while parsing ";
-                msg += "the input file:" + ex.getMessage();
-                System.out.println(msg);
-            }
-        }
+        SolverEvents.commit(parseEvent, fileName, 0, 0, 0);
     }
 
     /**
@@ -510,35 +361,227 @@ public class RushHour
      * first command line argument.
      *
      * @param args the command line arguments. If an argument is present, the
-     * program tries to use it as the filename for the game to solve.
+     * program tries to use it as the filename for the game to solve. If
+     * --headless is present, the solution is only printed. If --batch is
+     * present, every file and directory argument is solved in parallel and
+     * one line is printed per puzzle. If --corpus is present, every file
+     * argument is read as a corpus of one-line boards and solved the same
+     * way. --mode= followed by the name of a
+     * SearchMode picks the search used instead of BFS. --db= followed by a
+     * file name looks puzzles up in that SolutionDatabase and stores the new
+     * ones. --cache= followed by a number keeps that many solutions in a
+     * SolutionCache. --metric= followed by the name of a MoveMetric picks how
+     * moves are counted. --paths= followed by the name of a PathStorage picks
+     * what the search keeps to rebuild the solution. If --stats is present,
+     * the search statistics of every level and every puzzle are printed as
+     * they finish. --convert= followed by a file name writes every puzzle of
+     * the file arguments to that file in binary and solves nothing.
      * @throws java.io.FileNotFoundException thrown when the specified input
      * file is not found
      */
     public static void main(String[] args)
         throws FileNotFoundException
     {
-        GameBoard board = new GameBoard();
-        RushHour game = new RushHour(board);
-        try
+        boolean headless = false;
+        boolean batch = false;
+        boolean corpus = false;
+        boolean stats = false;
+        SearchMode mode = SearchMode.BFS;
+        MoveMetric metric = MoveMetric.SINGLE_SPACE;
+        PathStorage storage = PathStorage.PARENTS;
+        String databaseName = null;
+        String convertName = null;
+        int cacheEntries = 0;
+        ArrayList<String> fileNames = new ArrayList<>();
+
+        for (String arg : args)
         {
-            int solutionLength = 0;
-
-            if (args.length > 0)
+            if (arg.equals("--headless"))
+            {
+                headless = true;
+            }
+            else if (arg.equals("--batch"))
+            {
+                batch = true;
+            }
+            else if (arg.equals("--corpus"))
+            {
+                corpus = true;
+            }
+            else if (arg.equals("--stats"))
+            {
+                stats = true;
+            }
+            else if (arg.startsWith("--mode="))
+            {
+                mode = SearchMode.valueOf(
+                    arg.substring("--mode=".length()).toUpperCase());
+            }
+            else if (arg.startsWith("--metric="))
             {
-                solutionLength = game.solve(args[0]);
+                metric = MoveMetric.valueOf(
+                    arg.substring("--metric=".length()).toUpperCase());
+            }
+            else if (arg.startsWith("--paths="))
+            {
+                storage = PathStorage.valueOf(
+                    arg.substring("--paths=".length()).toUpperCase());
+            }
+            else if (arg.startsWith("--db="))
+            {
+                databaseName = arg.substring("--db=".length());
+            }
+            else if (arg.startsWith("--convert="))
+            {
+                convertName = arg.substring("--convert=".length());
+            }
+            else if (arg.startsWith("--cache="))
+            {
+                cacheEntries = Integer.parseInt(
+                    arg.substring("--cache=".length()));
             }
             else
             {
-                solutionLength = game.solve("game1.dat");
+                fileNames.add(arg);
+            }
+        }
+
+        if (convertName != null)
+        {
+            convert(fileNames, convertName);
+            return;
+        }
+
+        SolutionDatabase database = null;
+        Solver solver = SOLVER;
+
+        if (databaseName != null)
+        {
+            try
+            {
+                database = new SolutionDatabase(databaseName);
+            }
+            catch (IOException ex)
+            {
+                System.out.println("Cannot open solution database: "
+                    + ex.getMessage());
+                return;
+            }
+        }
+
+        SolutionStore store = database;
+        SolutionCache cache = null;
+
+        if (cacheEntries > 0)
+        {
+            cache = new SolutionCache(cacheEntries, CACHE_BYTES, database);
+            store = cache;
+        }
+
+        SolverListener listener = stats ? STATS_PRINTER : null;
+
+        if ((mode != SearchMode.BFS) || (metric != MoveMetric.SINGLE_SPACE)
+            || (storage != PathStorage.PARENTS) || (store != null) || stats)
+        {
+            solver = new Solver(mode, metric, storage, store, listener);
+        }
+
+        if (batch || corpus)
+        {
+            BatchSolver batchSolver = new BatchSolver(solver,
+                Runtime.getRuntime().availableProcessors());
+            try
+            {
+                int solved = corpus
+                    ? batchSolver.runCorpus(fileNames, System.out)
+                    : batchSolver.run(fileNames, System.out);
+                System.out.println("Puzzles solved: " + solved);
+
+                if (cache != null)
+                {
+                    System.out.println("Cache hits: " + cache.hits()
+                        + ", misses: " + cache.misses());
+                }
             }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+            }
+            catch (IOException ex)
+            {
+                System.out.println("Cannot read corpus: " + ex.getMessage());
+            }
+        }
+        else
+        {
+            String fileName = fileNames.isEmpty()
+                ? "game1.dat"
+                : fileNames.get(fileNames.size() - 1);
+
+            RushHour game = headless
+                ? new RushHour(null, solver)
+                : new RushHour(new GameBoard(), solver);
+            try
+            {
+                int solutionLength = game.solve(fileName);
 
-            System.out.println("Minimum number of moves: " + solutionLength);
-            game.printMoves();
+                System.out.println("Minimum number of moves: "
+                    + solutionLength);
+                game.printMoves();
+            }
+            catch (FileNotFoundException ex)
+            {
+                System.out.println("File not found: " + ex.getMessage());
+            }
+        }
+
+        if (database != null)
+        {
+            try
+            {
+                database.close();
+            }
+            catch (IOException ex)
+            {
+                System.out.println("Cannot close solution database: "
+                    + ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Writes every puzzle of some puzzle files to one binary puzzle file.
+     *
+     * @param fileNames the text or binary puzzle files to read, in order
+     * @param outName the binary file to write
+     */
+    private static void convert(ArrayList<String> fileNames, String outName)
+    {
+        ArrayList<Puzzle> puzzles = new ArrayList<>();
+
+        try
+        {
+            for (String fileName : fileNames)
+            {
+                puzzles.addAll(PuzzleParser.readAll(fileName));
+            }
+
+            Files.write(Paths.get(outName), PuzzleParser.toBinary(puzzles));
+            System.out.println("Puzzles converted: " + puzzles.size());
         }
         catch (FileNotFoundException ex)
         {
             System.out.println("File not found: " + ex.getMessage());
         }
+        catch (IllegalArgumentException ex)
+        {
+            System.out.println("Cannot convert: " + ex.getMessage());
+        }
+        catch (IOException ex)
+        {
+            System.out.println("Cannot write " + outName + ": "
+                + ex.getMessage());
+        }
     }
 
 }
@@ -0,0 +1,67 @@
+/**
+ * This enum lists the ways the Solver can search for a solution.
+ *
+ * @version 1.0
+ *
+ * File: SearchMode.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: Every mode returns a solution with the fewest possible moves;
+ * they only differ in how much time and memory it takes to find one.
+ */
+
+package rushhour;
+
+public enum SearchMode
+{
+    /**
+     * Breadth first search over every state up to the solution depth.
+     */
+    BFS,
+
+    /**
+     * A* search guided by BlockingHeuristic. Expands far fewer states than
+     * BFS on deep puzzles but still stores every state it reaches.
+     */
+    A_STAR,
+
+    /**
+     * Iterative deepening A* with a transposition table kept between
+     * iterations. Uses little memory, but searches the states within each
+     * bound again for every bound, so it expands many times more states than
+     * BFS on puzzles with long solutions.
+     */
+    IDA_STAR,
+
+    /**
+     * Breadth first search that expands each depth on every core at once.
+     * Gives the same solution length as BFS, though maybe different moves.
+     */
+    PARALLEL_BFS,
+
+    /**
+     * Breadth first search from the start and from every solved state at
+     * once, meeting in the middle. Gives the same solution length as BFS
+     * while reaching far fewer states on deep puzzles.
+     */
+    BIDIRECTIONAL,
+
+    /**
+     * Works out the distance to the exit of every state connected to the
+     * start with a DistanceTable, then follows it down. Always searches the
+     * whole cluster, so it is only worth it when the table is kept for more
+     * questions.
+     */
+    RETROGRADE,
+
+    /**
+     * Breadth first search that numbers every state with a DenseStateIndex
+     * and keeps the visited states in a bitmap instead of a hash table. The
+     * bitmap covers every state the index can number, so it pays off when
+     * the search reaches a good part of them. Falls back to BFS when the
+     * puzzle has too many states to number.
+     */
+    DENSE
+}
@@ -0,0 +1,224 @@
+/**
+ * This class holds the numbers collected during one solve.
+ *
+ * @version 1.0
+ *
+ * File: SearchStatistics.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: This class is a simple immutable container for how much work
+ * the Solver did to find (or fail to find) a solution: how many states it
+ * reached, expanded and generated, how big its frontier and its table of
+ * visited states got, and how long each level of the search took. Counts a
+ * search does not keep are 0, and a result that came out of a SolutionStore
+ * has no levels.
+ */
+
+package rushhour;
+
+import java.util.Arrays;
+
+public class SearchStatistics
+{
+    public SearchStatistics(int statesVisited, int statesExpanded,
+        long elapsedNanos)
+    {
+        this.statesVisited = statesVisited;
+        this.statesExpanded = statesExpanded;
+        this.elapsedNanos = elapsedNanos;
+        this.statesGenerated = 0;
+        this.duplicates = 0;
+        this.peakFrontier = 0;
+        this.tableSize = 0;
+        this.tableCapacity = 0;
+        this.levelNodes = new int[0];
+        this.levelNanos = new long[0];
+    }
+
+    /**
+     * Collects the numbers a search left in its workspace.
+     *
+     * @param work the workspace of a finished search
+     * @param elapsedNanos the wall time of the search
+     */
+    SearchStatistics(SearchWorkspace work, long elapsedNanos)
+    {
+        this.statesVisited = (work.visited >= 0)
+            ? work.visited
+            : work.states.size();
+        this.statesExpanded = work.expanded;
+        this.elapsedNanos = elapsedNanos;
+        this.statesGenerated = work.generated;
+        this.duplicates = work.duplicates;
+        this.peakFrontier = work.peakFrontier;
+        this.tableSize = (work.tableSize >= 0)
+            ? work.tableSize
+            : work.states.size();
+        this.tableCapacity = (work.tableCapacity >= 0)
+            ? work.tableCapacity
+            : work.states.capacity();
+        this.levelNodes = Arrays.copyOf(work.levelNodes, work.levels);
+        this.levelNanos = Arrays.copyOf(work.levelNanos, work.levels);
+    }
+
+    final private int statesVisited;
+    final private int statesExpanded;
+    final private long elapsedNanos;
+    final private long statesGenerated;
+    final private long duplicates;
+    final private int peakFrontier;
+    final private int tableSize;
+    final private int tableCapacity;
+    final private int[] levelNodes;
+    final private long[] levelNanos;
+
+    /**
+     * Gets the number of distinct states the search reached.
+     *
+     * @return the number of states stored in the visited table
+     */
+    public int statesVisited()
+    {
+        return this.statesVisited;
+    }
+
+    /**
+     * Gets the number of states whose successors were generated.
+     *
+     * @return the number of states taken off the frontier
+     */
+    public int statesExpanded()
+    {
+        return this.statesExpanded;
+    }
+
+    /**
+     * Gets the wall time of the search.
+     *
+     * @return the time spent searching, in nanoseconds
+     */
+    public long elapsedNanos()
+    {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * Gets the number of successors generated by expanding states.
+     *
+     * @return the number of successors, new or not
+     */
+    public long statesGenerated()
+    {
+        return this.statesGenerated;
+    }
+
+    /**
+     * Gets the number of successors turned away because the search had
+     * already reached them.
+     *
+     * @return the number of duplicate successors
+     */
+    public long duplicatesRejected()
+    {
+        return this.duplicates;
+    }
+
+    /**
+     * Gets the most states that were ever waiting to be expanded at once.
+     *
+     * @return the peak size of the frontier; for IDA*, the deepest path
+     */
+    public int peakFrontier()
+    {
+        return this.peakFrontier;
+    }
+
+    /**
+     * Gets the number of entries in the table of visited states.
+     *
+     * @return the entries in the table when the search ended
+     */
+    public int tableSize()
+    {
+        return this.tableSize;
+    }
+
+    /**
+     * Gets the number of hash slots in the table of visited states.
+     *
+     * @return the slots in the table when the search ended
+     */
+    public int tableCapacity()
+    {
+        return this.tableCapacity;
+    }
+
+    /**
+     * Gets how full the table of visited states was.
+     *
+     * @return the entries divided by the slots, or 0 if there was no table
+     */
+    public double loadFactor()
+    {
+        return (this.tableCapacity == 0)
+            ? 0
+            : (double) this.tableSize / this.tableCapacity;
+    }
+
+    /**
+     * Gets the number of levels the search finished.
+     *
+     * @return the number of levels, which are depths of a breadth first
+     * search or bounds of A* and IDA*
+     */
+    public int levels()
+    {
+        return this.levelNodes.length;
+    }
+
+    /**
+     * Gets the number of states expanded in one level.
+     *
+     * @param level the level, from 0 to levels() - 1
+     * @return the states expanded in it
+     */
+    public int levelNodes(int level)
+    {
+        return this.levelNodes[level];
+    }
+
+    /**
+     * Gets the time one level took.
+     *
+     * @param level the level, from 0 to levels() - 1
+     * @return the time spent on it, in nanoseconds
+     */
+    public long levelNanos(int level)
+    {
+        return this.levelNanos[level];
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.statesVisited + " states visited, "
+            + this.statesExpanded + " expanded in "
+            + (this.elapsedNanos / 1000000) + " ms";
+    }
+
+    /**
+     * Describes every number collected, not just the ones in toString.
+     *
+     * @return a one line summary
+     */
+    public String details()
+    {
+        return this + ", " + this.statesGenerated + " generated, "
+            + this.duplicates + " duplicates, peak frontier "
+            + this.peakFrontier + ", table " + this.tableSize + "/"
+            + this.tableCapacity + String.format(" (load %.2f)",
+            this.loadFactor()) + ", " + this.levels() + " levels";
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * This class holds the working memory of one solve.
+ *
+ * @version 1.0
+ *
+ * File: SearchWorkspace.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: Everything a search writes to lives here, and a new workspace
+ * is made for every call to Solver.solve. Nothing in it is ever shared
+ * between threads, which is what lets one Solver serve many threads at once.
+ */
+
+package rushhour;
+
+import java.util.Arrays;
+
+class SearchWorkspace
+{
+    SearchWorkspace(Puzzle puzzle)
+    {
+        this(puzzle, MoveMetric.SINGLE_SPACE, PathStorage.PARENTS, null);
+    }
+
+    SearchWorkspace(Puzzle puzzle, MoveMetric metric, PathStorage storage,
+        SolverListener listener)
+    {
+        this.puzzle = puzzle;
+        this.listener = listener;
+        this.storage = storage;
+
+        // Every search node is a packed state: the dynamic value of each
+        // vehicle stored in 3 bits of a long. The board's metric decides
+        // what counts as one move.
+        this.packed = new PackedBoard(puzzle, metric);
+
+        // Every state reached is stored in this table along with the index of
+        // the state it was reached from, or the move that reached it.
+        this.states = new StateTable(1024, storage);
+
+        // This is the queue of state indices used by the breadth first search
+        this.queue = new StateQueue(1024);
+
+        // Reused for the successors of every node so the loop never allocates
+        this.successors = new long[this.packed.maxSuccessors()];
+
+        this.expanded = 0;
+        this.visited = -1;
+        this.generated = 0;
+        this.duplicates = 0;
+        this.peakFrontier = 0;
+        this.tableSize = -1;
+        this.tableCapacity = -1;
+
+        this.levelNodes = new int[16];
+        this.levelNanos = new long[16];
+        this.levels = 0;
+        this.levelStartTime = System.nanoTime();
+        this.levelStartExpanded = 0;
+        this.levelEvent = SolverEvents.begin(SolverEvents.LEVEL);
+    }
+
+    final Puzzle puzzle;
+    final SolverListener listener;
+    final PathStorage storage;
+    final PackedBoard packed;
+    final StateTable states;
+    final StateQueue queue;
+    final long[] successors;
+
+    // The number of states whose successors have been generated
+    int expanded;
+
+    // The number of distinct states reached, for searches that do not keep
+    // them all in the state table; -1 means the state table's size
+    int visited;
+
+    // The number of successors generated, and how many of them were turned
+    // away because they had been reached before
+    long generated;
+    long duplicates;
+
+    // The most states ever waiting to be expanded at once
+    int peakFrontier;
+
+    // The entries and hash slots of the table that held the visited states,
+    // for searches that do not use the state table; -1 means the state
+    // table's
+    int tableSize;
+    int tableCapacity;
+
+    // The states expanded and the time taken by each finished level
+    int[] levelNodes;
+    long[] levelNanos;
+    int levels;
+    private long levelStartTime;
+    private int levelStartExpanded;
+    private Object levelEvent;
+
+    /**
+     * Records that the search has finished a level and tells the listener.
+     *
+     * @param frontier the number of states waiting to be expanded as the
+     * level ends
+     *
+     * What a level is depends on the search: one depth of a breadth first
+     * search, or one bound of an informed search. The states expanded in the
+     * level are the ones counted in expanded since the last level ended, and
+     * searches that count visited themselves keep it up to date at the end
+     * of every level.
+     */
+    void endLevel(int frontier)
+    {
+        long now = System.nanoTime();
+        int nodes = this.expanded - this.levelStartExpanded;
+
+        SolverEvents.commit(this.levelEvent, this.puzzle.name(), this.levels,
+            frontier, (this.visited >= 0) ? this.visited : this.states.size());
+
+        if (this.levels == this.levelNodes.length)
+        {
+            this.levelNodes = Arrays.copyOf(this.levelNodes, this.levels * 2);
+            this.levelNanos = Arrays.copyOf(this.levelNanos, this.levels * 2);
+        }
+
+        this.levelNodes[this.levels] = nodes;
+        this.levelNanos[this.levels] = now - this.levelStartTime;
+        this.peakFrontier = Math.max(this.peakFrontier, frontier);
+
+        if (this.listener != null)
+        {
+            this.listener.levelFinished(this.puzzle, this.levels, nodes,
+                frontier, now - this.levelStartTime);
+        }
+
+        this.levels++;
+        this.levelStartTime = now;
+        this.levelStartExpanded = this.expanded;
+        this.levelEvent = SolverEvents.begin(SolverEvents.LEVEL);
+    }
+
+    /**
+     * Stores a path in the state table as a chain of parents.
+     *
+     * @param path the states of the path, starting with the first state
+     * @param last the index in path of the last state of the path
+     * @return the state table index of the last state
+     *
+     * Searches that do not keep a parent for every state use this to hand
+     * their solution back, so the Solver can rebuild the moves the same way
+     * for every search.
+     */
+    int addPath(long[] path, int last)
+    {
+        int index = StateTable.NO_PARENT;
+
+        for (int i = 0; i <= last; i++)
+        {
+            index = this.states.add(path[i], index);
+        }
+
+        return index;
+    }
+}
@@ -0,0 +1,247 @@
+/**
+ * This class keeps the most recently used solutions in memory.
+ *
+ * @version 1.0
+ *
+ * File: SolutionCache.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: This class is a least recently used cache of solutions, held in
+ * a LinkedHashMap kept in access order. Puzzles are keyed by their
+ * CanonicalPuzzle key, so recolored or reordered copies of a puzzle share an
+ * entry, and moves are kept as one byte each. The cache is bounded both by
+ * the number of entries and by an estimate of the bytes they take; storing an
+ * entry evicts the least recently used ones until both bounds hold again.
+ *
+ * A cache may sit in front of another SolutionStore, usually a
+ * SolutionDatabase. A miss is then looked up there, and a hit there is kept
+ * in the cache, and everything stored is passed on to it as well.
+ *
+ * All methods are synchronized, so one cache can back a Solver shared by many
+ * threads.
+ */
+
+package rushhour;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SolutionCache
+    implements SolutionStore
+{
+    public SolutionCache(int maxEntries, long maxBytes)
+    {
+        this(maxEntries, maxBytes, null);
+    }
+
+    public SolutionCache(int maxEntries, long maxBytes, SolutionStore backing)
+    {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.backing = backing;
+
+        // true keeps the entries in access order, least recent first
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.bytes = 0;
+        this.hits = 0;
+        this.misses = 0;
+    }
+
+    /**
+     * The estimated bytes of an entry on top of its key and moves: the map
+     * entry, the key's buffer and the entry's arrays.
+     */
+    static final int ENTRY_OVERHEAD = 128;
+
+    final private int maxEntries;
+    final private long maxBytes;
+    final private SolutionStore backing;
+    final private LinkedHashMap<ByteBuffer, Entry> entries;
+    private long bytes;
+    private long hits;
+    private long misses;
+
+    /**
+     * Looks up the cached solution of a puzzle.
+     *
+     * @param puzzle the puzzle
+     * @param metric the way the solution's moves are counted
+     * @return the cached result with empty statistics, or null if it is not
+     * in the cache or the store behind it
+     */
+    @Override
+    public synchronized SolveResult find(Puzzle puzzle, MoveMetric metric)
+    {
+        CanonicalPuzzle canonical = new CanonicalPuzzle(puzzle, metric);
+        ByteBuffer key = ByteBuffer.wrap(canonical.keyBytes());
+        Entry entry = this.entries.get(key);
+
+        if (entry == null)
+        {
+            this.misses++;
+
+            SolveResult stored = (this.backing == null)
+                ? null
+                : this.backing.find(puzzle, metric);
+
+            if (stored != null)
+            {
+                this.put(key, canonical, stored);
+            }
+
+            return stored;
+        }
+
+        this.hits++;
+
+        int[] moves = new int[entry.moves.length];
+
+        for (int k = 0; k < moves.length; k++)
+        {
+            moves[k] = canonical.decodeMove(entry.moves[k]);
+        }
+
+        return new SolveResult(entry.solved, moves, puzzle,
+            new SearchStatistics(0, 0, 0));
+    }
+
+    /**
+     * Stores the solution of a puzzle, evicting the least recently used
+     * solutions if the cache is full, and passes it on to the store behind
+     * the cache.
+     *
+     * @param puzzle the puzzle
+     * @param metric the way the solution's moves are counted
+     * @param result the result of solving it
+     * @return true if it was kept in the cache
+     */
+    @Override
+    public synchronized boolean store(Puzzle puzzle, MoveMetric metric,
+        SolveResult result)
+    {
+        CanonicalPuzzle canonical = new CanonicalPuzzle(puzzle, metric);
+        ByteBuffer key = ByteBuffer.wrap(canonical.keyBytes());
+
+        if (this.backing != null)
+        {
+            this.backing.store(puzzle, metric, result);
+        }
+
+        return this.put(key, canonical, result);
+    }
+
+    /**
+     * Counts lookups that were answered from memory.
+     *
+     * @return the number of hits since the cache was made
+     */
+    public synchronized long hits()
+    {
+        return this.hits;
+    }
+
+    /**
+     * Counts lookups that were not in memory, whether or not the store
+     * behind the cache had them.
+     *
+     * @return the number of misses since the cache was made
+     */
+    public synchronized long misses()
+    {
+        return this.misses;
+    }
+
+    /**
+     * Counts the cached solutions.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size()
+    {
+        return this.entries.size();
+    }
+
+    /**
+     * Estimates the memory taken by the cached solutions.
+     *
+     * @return the estimated bytes of every entry
+     */
+    public synchronized long bytes()
+    {
+        return this.bytes;
+    }
+
+    /**
+     * Adds an entry and evicts until the cache is within its bounds.
+     *
+     * @param key the key of the puzzle
+     * @param canonical the canonical form of the puzzle
+     * @param result the result of solving it
+     * @return false if the entry alone is bigger than the cache
+     */
+    private boolean put(ByteBuffer key, CanonicalPuzzle canonical,
+        SolveResult result)
+    {
+        Entry entry = new Entry(result.isSolved(),
+            new byte[result.moveCount()]);
+
+        for (int k = 0; k < entry.moves.length; k++)
+        {
+            entry.moves[k] = canonical.encodeMove(result.move(k));
+        }
+
+        long size = entrySize(key, entry);
+
+        if (size > this.maxBytes)
+        {
+            return false;
+        }
+
+        Entry old = this.entries.put(key, entry);
+
+        if (old != null)
+        {
+            this.bytes -= entrySize(key, old);
+        }
+
+        this.bytes += size;
+
+        Iterator<Map.Entry<ByteBuffer, Entry>> eldest =
+            this.entries.entrySet().iterator();
+
+        while ((this.entries.size() > this.maxEntries)
+            || (this.bytes > this.maxBytes))
+        {
+            Map.Entry<ByteBuffer, Entry> evicted = eldest.next();
+            this.bytes -= entrySize(evicted.getKey(), evicted.getValue());
+            eldest.remove();
+        }
+
+        return this.entries.containsKey(key);
+    }
+
+    private static long entrySize(ByteBuffer key, Entry entry)
+    {
+        return ENTRY_OVERHEAD + key.capacity() + entry.moves.length;
+    }
+
+    /**
+     * One cached solution: whether it was solved and its moves, one byte
+     * each as made by CanonicalPuzzle.encodeMove.
+     */
+    private static class Entry
+    {
+        Entry(boolean solved, byte[] moves)
+        {
+            this.solved = solved;
+            this.moves = moves;
+        }
+
+        final boolean solved;
+        final byte[] moves;
+    }
+}
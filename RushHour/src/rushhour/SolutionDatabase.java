@@ -0,0 +1,319 @@
+/**
+ * This class keeps the solutions of puzzles in a file between runs.
+ *
+ * @version 1.0
+ *
+ * File: SolutionDatabase.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: The file is a 16 byte header followed by a fixed number of
+ * fixed-size records, and the whole of it is memory mapped. The records are
+ * an open-addressing hash table: a puzzle's record is found by hashing its
+ * key and probing forward from that slot, comparing the key in place in the
+ * mapped file, so a lookup copies nothing but the moves it returns.
+ *
+ * Puzzles are keyed by their CanonicalPuzzle key, so the same vehicles in
+ * the same places share a record whatever their colors or the order they
+ * were listed in, as long as their moves are counted the same way. Moves are
+ * stored one byte each by canonical vehicle index, and are given back the
+ * colors of whichever puzzle is asking.
+ *
+ * Record layout, in bytes from the start of the record:
+ * 0 - 1 if the record is used, 0 if it is empty
+ * 1 - CanonicalPuzzle.KEY_SIZE bytes of key
+ * 29 - the solution length as a short, or -1 if it cannot be solved
+ * 31 - the number of moves stored
+ * 32 - one byte per move, up to MAX_MOVES
+ *
+ * The table is not resized. Once three quarters of the records are used,
+ * or for a solution longer than MAX_MOVES, store simply returns false. All
+ * methods are synchronized so one database can back a Solver shared by many
+ * threads.
+ */
+
+package rushhour;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+public class SolutionDatabase
+    implements SolutionStore, Closeable
+{
+    public SolutionDatabase(String fileName)
+        throws IOException
+    {
+        this(fileName, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Opens a database file, creating it with room for the given number of
+     * records if it does not exist. An existing file keeps its own capacity.
+     *
+     * @param fileName the database file
+     * @param capacity the number of records of a new file, a power of two
+     * @throws IOException thrown if the file cannot be opened or is not a
+     * solution database
+     */
+    public SolutionDatabase(String fileName, int capacity)
+        throws IOException
+    {
+        boolean exists = new File(fileName).exists();
+        this.file = new RandomAccessFile(fileName, "rw");
+
+        if (exists)
+        {
+            if ((this.file.length() < HEADER_SIZE)
+                || (this.file.readInt() != MAGIC)
+                || (this.file.readInt() != VERSION))
+            {
+                this.file.close();
+                throw new IOException(fileName
+                    + " is not a solution database");
+            }
+
+            // the header is checked as closely as a new file's capacity
+            // before a single record of the file is mapped
+            capacity = this.file.readInt();
+            int size = this.file.readInt();
+
+            if (!isValidCapacity(capacity) || (size < 0) || (size > capacity)
+                || (this.file.length()
+                    != HEADER_SIZE + (long) capacity * RECORD_SIZE))
+            {
+                this.file.close();
+                throw new IOException(fileName
+                    + " has a damaged solution database header");
+            }
+        }
+        else if (!isValidCapacity(capacity))
+        {
+            this.file.close();
+            throw new IllegalArgumentException("bad capacity " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.buffer = this.file.getChannel().map(FileChannel.MapMode.READ_WRITE,
+            0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+
+        if (!exists)
+        {
+            this.buffer.putInt(0, MAGIC);
+            this.buffer.putInt(4, VERSION);
+            this.buffer.putInt(8, capacity);
+            this.buffer.putInt(12, 0);
+        }
+    }
+
+    /**
+     * The number of records in a new database file, about 10 MB.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /**
+     * The bytes in one record.
+     */
+    static final int RECORD_SIZE = 160;
+
+    private static final int KEY_OFFSET = 1;
+    private static final int LENGTH_OFFSET = KEY_OFFSET
+        + CanonicalPuzzle.KEY_SIZE;
+    private static final int COUNT_OFFSET = LENGTH_OFFSET + 2;
+    private static final int MOVES_OFFSET = COUNT_OFFSET + 1;
+
+    /**
+     * The most moves a record can hold.
+     */
+    static final int MAX_MOVES = RECORD_SIZE - MOVES_OFFSET;
+
+    private static final int HEADER_SIZE = 16;
+    private static final int MAGIC = 0x52484442;
+    private static final int VERSION = 3;
+    private static final int MAX_CAPACITY = 1 << 23;
+
+    final private RandomAccessFile file;
+    final private MappedByteBuffer buffer;
+    final private int capacity;
+
+    /**
+     * Tells whether a database can have a number of records.
+     *
+     * @param capacity the number of records
+     * @return true if it is a power of two no bigger than MAX_CAPACITY
+     */
+    private static boolean isValidCapacity(int capacity)
+    {
+        return (capacity > 0) && (Integer.bitCount(capacity) == 1)
+            && (capacity <= MAX_CAPACITY);
+    }
+
+    /**
+     * Looks up the stored solution of a puzzle.
+     *
+     * @param puzzle the puzzle
+     * @param metric the way the solution's moves are counted
+     * @return the stored result with empty statistics, or null if the puzzle
+     * has not been stored under that metric
+     */
+    @Override
+    public synchronized SolveResult find(Puzzle puzzle, MoveMetric metric)
+    {
+        CanonicalPuzzle canonical = new CanonicalPuzzle(puzzle, metric);
+        int record = this.recordOf(canonical.keyBytes());
+
+        if (!this.isUsed(record))
+        {
+            return null;
+        }
+
+        int position = this.position(record);
+        int length = this.buffer.getShort(position + LENGTH_OFFSET);
+        int count = this.buffer.get(position + COUNT_OFFSET) & 0xFF;
+        int[] moves = new int[count];
+
+        for (int k = 0; k < count; k++)
+        {
+            moves[k] = canonical.decodeMove(
+                this.buffer.get(position + MOVES_OFFSET + k));
+        }
+
+        return new SolveResult(length >= 0, moves, puzzle,
+            new SearchStatistics(0, 0, 0));
+    }
+
+    /**
+     * Stores the solution of a puzzle, replacing any stored before.
+     *
+     * @param puzzle the puzzle
+     * @param metric the way the solution's moves are counted
+     * @param result the result of solving it
+     * @return true if it was stored, false if the database is full or the
+     * solution is too long for a record
+     */
+    @Override
+    public synchronized boolean store(Puzzle puzzle, MoveMetric metric,
+        SolveResult result)
+    {
+        int count = result.moveCount();
+
+        if (count > MAX_MOVES)
+        {
+            return false;
+        }
+
+        CanonicalPuzzle canonical = new CanonicalPuzzle(puzzle, metric);
+        byte[] key = canonical.keyBytes();
+        int record = this.recordOf(key);
+        int position = this.position(record);
+
+        if (!this.isUsed(record))
+        {
+            if (this.size() * 4 >= this.capacity * 3)
+            {
+                return false;
+            }
+
+            this.buffer.putInt(12, this.size() + 1);
+        }
+
+        for (int k = 0; k < key.length; k++)
+        {
+            this.buffer.put(position + KEY_OFFSET + k, key[k]);
+        }
+
+        this.buffer.putShort(position + LENGTH_OFFSET,
+            (short) result.length());
+        this.buffer.put(position + COUNT_OFFSET, (byte) count);
+
+        for (int k = 0; k < count; k++)
+        {
+            this.buffer.put(position + MOVES_OFFSET + k,
+                canonical.encodeMove(result.move(k)));
+        }
+
+        // mark it used last, so a half written record is never found
+        this.buffer.put(position, (byte) 1);
+
+        return true;
+    }
+
+    /**
+     * Counts the stored puzzles.
+     *
+     * @return the number of used records
+     */
+    public synchronized int size()
+    {
+        return this.buffer.getInt(12);
+    }
+
+    /**
+     * Writes any changes out to the file and closes it. The database must not
+     * be used afterward.
+     *
+     * @throws IOException thrown if the file cannot be closed
+     */
+    @Override
+    public synchronized void close()
+        throws IOException
+    {
+        this.buffer.force();
+        this.file.close();
+    }
+
+    /**
+     * Finds the record holding a key, or the empty record where it would go.
+     *
+     * @param key the key
+     * @return the record number
+     */
+    private int recordOf(byte[] key)
+    {
+        long hash = 0;
+
+        for (byte b : key)
+        {
+            hash = hash * 31 + b;
+        }
+
+        int mask = this.capacity - 1;
+        int record = StateTable.hash(hash) & mask;
+
+        while (this.isUsed(record) && !this.keyMatches(record, key))
+        {
+            record = (record + 1) & mask;
+        }
+
+        return record;
+    }
+
+    private boolean keyMatches(int record, byte[] key)
+    {
+        int position = this.position(record) + KEY_OFFSET;
+
+        for (int k = 0; k < key.length; k++)
+        {
+            if (this.buffer.get(position + k) != key[k])
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isUsed(int record)
+    {
+        return this.buffer.get(this.position(record)) != 0;
+    }
+
+    private int position(int record)
+    {
+        return HEADER_SIZE + record * RECORD_SIZE;
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * This interface is anywhere the Solver can keep solutions it has found.
+ *
+ * @version 1.0
+ *
+ * File: SolutionStore.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: A Solver given a SolutionStore looks every puzzle up in it
+ * before searching and stores the result afterward. A solution is only the
+ * shortest under the MoveMetric it was found with, so a store keeps the
+ * solutions of each metric apart. A store may be shared by many threads, so
+ * implementations must be thread safe.
+ */
+
+package rushhour;
+
+public interface SolutionStore
+{
+    /**
+     * Looks up the stored solution of a puzzle.
+     *
+     * @param puzzle the puzzle
+     * @param metric the way the solution's moves are counted
+     * @return the stored result with empty statistics, or null if the puzzle
+     * has not been stored under that metric
+     */
+    SolveResult find(Puzzle puzzle, MoveMetric metric);
+
+    /**
+     * Stores the solution of a puzzle, replacing any stored before.
+     *
+     * @param puzzle the puzzle
+     * @param metric the way the solution's moves are counted
+     * @param result the result of solving it
+     * @return true if it was stored, false if the store had no room for it
+     */
+    boolean store(Puzzle puzzle, MoveMetric metric, SolveResult result);
+}
@@ -0,0 +1,198 @@
+/**
+ * This class holds the answer to one Rush Hour puzzle.
+ *
+ * @version 1.0
+ *
+ * File: SolveResult.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: This class is what the Solver hands back: whether the puzzle
+ * was solved, the moves of the optimal solution and how much searching it
+ * took. It is immutable, so it can be passed to a GameBoard or shared between
+ * threads freely.
+ *
+ * The moves are kept packed in an int array, as MoveList packs them, and
+ * are only turned into Move objects the first time moves() is called. A
+ * Solver with PathStorage.NONE gives results that have a length but no
+ * moves at all; hasMoves() tells them apart.
+ */
+
+package rushhour;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class SolveResult
+{
+    public SolveResult(boolean solved, MoveList moves, Puzzle puzzle,
+        SearchStatistics statistics)
+    {
+        this(solved, moves.toArray(), puzzle, statistics);
+    }
+
+    /**
+     * Makes a result that takes over an array of packed moves.
+     *
+     * @param solved whether a solution was found
+     * @param moves the packed moves, which the result now owns
+     * @param puzzle the puzzle the moves belong to
+     * @param statistics the numbers collected during the search
+     */
+    SolveResult(boolean solved, int[] moves, Puzzle puzzle,
+        SearchStatistics statistics)
+    {
+        this(solved, solved ? moves.length + 1 : -1, moves, puzzle,
+            statistics);
+    }
+
+    /**
+     * Makes a result that knows how many moves the solution has but not
+     * what they are.
+     *
+     * @param moveCount the number of moves, not including the red car
+     * leaving, or -1 if the puzzle was not solved
+     * @param puzzle the puzzle solved
+     * @param statistics the numbers collected during the search
+     */
+    SolveResult(int moveCount, Puzzle puzzle, SearchStatistics statistics)
+    {
+        this(moveCount >= 0, (moveCount >= 0) ? moveCount + 1 : -1,
+            NO_MOVES, puzzle, statistics);
+    }
+
+    private SolveResult(boolean solved, int length, int[] moves,
+        Puzzle puzzle, SearchStatistics statistics)
+    {
+        this.solved = solved;
+        this.length = length;
+        this.codes = moves;
+        this.puzzle = puzzle;
+        this.statistics = statistics;
+    }
+
+    private static final int[] NO_MOVES = new int[0];
+
+    final private boolean solved;
+    final private int length;
+    final private int[] codes;
+    final private Puzzle puzzle;
+    final private SearchStatistics statistics;
+
+    // Built from codes when first asked for. Two threads may both build it,
+    // but they build equal lists, so either one may win.
+    private volatile List<Move> moves;
+
+    /**
+     * Tells whether the red car can escape.
+     *
+     * @return true if a solution was found
+     */
+    public boolean isSolved()
+    {
+        return this.solved;
+    }
+
+    /**
+     * Gets the length of the solution.
+     *
+     * @return the number of moves, including the last move of the red car off
+     * the board, or -1 if the puzzle was not solved
+     */
+    public int length()
+    {
+        return this.length;
+    }
+
+    /**
+     * Tells whether the moves of the solution were kept.
+     *
+     * @return false if the solver only counted them
+     */
+    public boolean hasMoves()
+    {
+        return !this.solved || (this.codes.length + 1 == this.length);
+    }
+
+    /**
+     * Counts the moves kept, not including the red car leaving.
+     *
+     * @return the number of moves, 0 if the puzzle was not solved or the
+     * moves were not kept
+     */
+    public int moveCount()
+    {
+        return this.codes.length;
+    }
+
+    /**
+     * Gets one move of the solution without making a Move.
+     *
+     * @param k the place of the move, from 0 to moveCount() - 1
+     * @return the move packed as MoveList packs it
+     */
+    public int move(int k)
+    {
+        return this.codes[k];
+    }
+
+    /**
+     * Gets the moves of the solution without making any Moves.
+     *
+     * @return a new MoveList holding a copy of the packed moves
+     */
+    public MoveList moveList()
+    {
+        return new MoveList(this.codes.clone());
+    }
+
+    /**
+     * Gets the moves of the solution, not including the red car leaving.
+     *
+     * @return an unmodifiable list of moves, empty if the puzzle was not
+     * solved or the moves were not kept
+     */
+    public List<Move> moves()
+    {
+        List<Move> built = this.moves;
+
+        if (built == null)
+        {
+            ArrayList<Move> list = new ArrayList<>(this.codes.length);
+
+            for (int code : this.codes)
+            {
+                list.add(MoveList.toMove(code, this.puzzle));
+            }
+
+            built = Collections.unmodifiableList(list);
+            this.moves = built;
+        }
+
+        return built;
+    }
+
+    /**
+     * Gets the numbers collected during the search.
+     *
+     * @return the search statistics
+     */
+    public SearchStatistics statistics()
+    {
+        return this.statistics;
+    }
+
+    /**
+     * Makes the same result with other statistics.
+     *
+     * @param statistics the statistics to give the copy
+     * @return a result sharing this one's moves
+     */
+    SolveResult withStatistics(SearchStatistics statistics)
+    {
+        return new SolveResult(this.solved, this.length, this.codes,
+            this.puzzle, statistics);
+    }
+}
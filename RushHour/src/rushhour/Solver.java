@@ -0,0 +1,421 @@
+/**
+ * This class solves Rush Hour puzzles.
+ *
+ * @version 1.0
+ *
+ * File: Solver.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: This class finds the shortest solution to a Puzzle and returns
+ * it as a SolveResult. It has nothing to do with the GameBoard GUI, so it can
+ * be used on machines without a display and never loads the AWT.
+ *
+ * A Solver is immutable and every solve gets its own SearchWorkspace, so a
+ * single Solver can be shared by a whole pool of threads.
+ *
+ * A Solver finds the solution with the fewest moves under its MoveMetric,
+ * counting a move as one space by default. Its PathStorage decides what the
+ * search keeps next to every state to rebuild the moves from, a parent index
+ * by default; PathStorage.REVERSE_MOVES keeps a byte instead, so a bigger
+ * cluster of states fits on the same heap. PathStorage.NONE only counts the
+ * moves, which is all a difficulty rating needs: SearchMode.BFS then runs
+ * the CountingSearch, and the results have a length but no moves.
+ *
+ * A Solver given a SolutionStore, such as a SolutionDatabase or a
+ * SolutionCache, looks every puzzle up there before searching, and stores
+ * what it finds afterward. A Solver given a SolverListener tells it about
+ * every level of every search as it finishes, and about every result.
+ *
+ * The algorithm below is the default SearchMode.BFS; see SearchMode for the
+ * informed searches.
+ *
+ * Algorithm overview:
+ * 1. make a queue and make the initial value be the packed state of the
+ *    board
+ * 2. while the queue is not empty, pop the front
+ * 3. find all adjacent states that have not been visited and push them onto
+ *    the back of the queue
+ * 4. repeat step 2 - 4 until the red car escapes
+ */
+
+package rushhour;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class Solver
+{
+    public Solver()
+    {
+        this(SearchMode.BFS);
+    }
+
+    public Solver(SearchMode mode)
+    {
+        this(mode, null);
+    }
+
+    public Solver(SearchMode mode, SolutionStore store)
+    {
+        this(mode, store, null);
+    }
+
+    public Solver(SearchMode mode, SolutionStore store,
+        SolverListener listener)
+    {
+        this(mode, MoveMetric.SINGLE_SPACE, store, listener);
+    }
+
+    public Solver(SearchMode mode, MoveMetric metric, SolutionStore store,
+        SolverListener listener)
+    {
+        this(mode, metric, PathStorage.PARENTS, store, listener);
+    }
+
+    public Solver(SearchMode mode, MoveMetric metric, PathStorage storage,
+        SolutionStore store, SolverListener listener)
+    {
+        this.mode = mode;
+        this.metric = metric;
+        this.storage = storage;
+        this.store = store;
+        this.listener = listener;
+    }
+
+    final private SearchMode mode;
+    final private MoveMetric metric;
+    final private PathStorage storage;
+    final private SolutionStore store;
+    final private SolverListener listener;
+
+    /**
+     * Finds the shortest solution to a puzzle.
+     *
+     * @param puzzle the puzzle to solve
+     * @return the result of the search
+     *
+     * A Solver keeps no state between calls, so one instance may be used by
+     * any number of threads at the same time.
+     */
+    public SolveResult solve(Puzzle puzzle)
+    {
+        long startTime = System.nanoTime();
+
+        if (this.store != null)
+        {
+            SolveResult stored = this.store.find(puzzle, this.metric);
+
+            if (stored != null)
+            {
+                return this.finish(puzzle, stored.withStatistics(
+                    new SearchStatistics(0, 0,
+                    System.nanoTime() - startTime)));
+            }
+        }
+
+        // only the breadth first search can find a length without parents
+        PathStorage tableStorage = ((this.storage == PathStorage.NONE)
+            && (this.mode != SearchMode.BFS))
+            ? PathStorage.PARENTS
+            : this.storage;
+
+        SearchWorkspace work = new SearchWorkspace(puzzle, this.metric,
+            tableStorage, this.listener);
+
+        if (this.storage == PathStorage.NONE)
+        {
+            return this.finish(puzzle, this.count(work, startTime));
+        }
+
+        int winningIndex = this.runSearch(work);
+
+        Object pathEvent = SolverEvents.begin(SolverEvents.PATH);
+        int[] path = (winningIndex != StateTable.NO_PARENT)
+            ? reconstructPath(work, winningIndex)
+            : new int[0];
+
+        SearchStatistics statistics = new SearchStatistics(work,
+            System.nanoTime() - startTime);
+        SolverEvents.commit(pathEvent, puzzle.name(), path.length, 0,
+            statistics.statesVisited());
+
+        SolveResult result = new SolveResult(
+            winningIndex != StateTable.NO_PARENT, path, puzzle, statistics);
+
+        if (this.store != null)
+        {
+            this.store.store(puzzle, this.metric, result);
+        }
+
+        return this.finish(puzzle, result);
+    }
+
+    /**
+     * Runs the search of this solver's mode.
+     *
+     * @param work the workspace of the puzzle to solve
+     * @return the index of the solved state found, or NO_PARENT if the red
+     * car cannot escape
+     */
+    private int runSearch(SearchWorkspace work)
+    {
+        int winningIndex;
+
+        switch (this.mode)
+        {
+            case A_STAR:
+                winningIndex = AStarSearch.search(work);
+                break;
+            case IDA_STAR:
+                winningIndex = IdaStarSearch.search(work);
+                break;
+            case PARALLEL_BFS:
+                // the common pool's threads are never left behind by a
+                // Solver that is dropped
+                winningIndex = ParallelSearch.search(work,
+                    ForkJoinPool.commonPool());
+                break;
+            case BIDIRECTIONAL:
+                winningIndex = BidirectionalSearch.search(work);
+                break;
+            case RETROGRADE:
+                winningIndex = DistanceTable.search(work);
+                break;
+            case DENSE:
+                winningIndex = DenseSearch.search(work);
+                break;
+            default:
+                winningIndex = search(work);
+                break;
+        }
+
+        return winningIndex;
+    }
+
+    /**
+     * Finds only the length of the shortest solution. Nothing is stored,
+     * since a SolutionStore keeps moves.
+     *
+     * @param work the workspace of the puzzle to solve
+     * @param startTime when the solve began, from System.nanoTime
+     * @return a result with a length but no moves
+     */
+    private SolveResult count(SearchWorkspace work, long startTime)
+    {
+        int moves;
+
+        if (this.mode == SearchMode.BFS)
+        {
+            moves = CountingSearch.search(work);
+        }
+        else
+        {
+            int winningIndex = this.runSearch(work);
+            moves = (winningIndex != StateTable.NO_PARENT)
+                ? pathLength(work, winningIndex)
+                : -1;
+        }
+
+        return new SolveResult(moves, work.puzzle, new SearchStatistics(work,
+            System.nanoTime() - startTime));
+    }
+
+    /**
+     * Hands a result to the listener, if there is one.
+     *
+     * @param puzzle the puzzle solved
+     * @param result the result of solving it
+     * @return the result
+     */
+    private SolveResult finish(Puzzle puzzle, SolveResult result)
+    {
+        if (this.listener != null)
+        {
+            this.listener.solveFinished(puzzle, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the way this solver searches.
+     *
+     * @return the search mode
+     */
+    public SearchMode mode()
+    {
+        return this.mode;
+    }
+
+    /**
+     * Gets the way this solver counts moves.
+     *
+     * @return the move metric
+     */
+    public MoveMetric metric()
+    {
+        return this.metric;
+    }
+
+    /**
+     * Gets what this solver keeps to rebuild the moves of a solution.
+     *
+     * @return the path storage
+     */
+    public PathStorage storage()
+    {
+        return this.storage;
+    }
+
+    /**
+     * Runs the breadth first search in a fresh workspace.
+     *
+     * @param work the workspace of the puzzle to solve
+     * @return the index of the first solved state found, or NO_PARENT if the
+     * red car cannot escape
+     */
+    static int search(SearchWorkspace work)
+    {
+        PackedBoard packed = work.packed;
+        StateTable moves = work.states;
+        StateQueue queue = work.queue;
+        long[] successors = work.successors;
+
+        //Pack the starting positions of the vehicles and put the first node in
+        //the table. The first move has no parent.
+        int startIndex = moves.add(packed.encode(work.puzzle.vehicles()),
+            StateTable.NO_PARENT);
+
+        //Put the first node on the queue
+        queue.add(startIndex);
+
+        //This loop will do the search
+        while (!queue.isEmpty())
+        {
+            //Get node
+            int frontIndex = queue.poll();
+            long queueFront = moves.key(frontIndex);
+
+            //This will stop the loop if the red car gets to the exit point
+            if (packed.isSolved(queueFront))
+            {
+                work.endLevel(queue.size());
+                return frontIndex;
+            }
+
+            //Find every state one move away from this one
+            int count = packed.successors(queueFront, successors);
+            work.expanded++;
+            work.generated += count;
+
+            for (int k = 0; k < count; k++)
+            {
+                //Put it in the table if it has not been done before
+                int nextIndex = moves.add(successors[k], frontIndex);
+
+                if (nextIndex >= 0)
+                {
+                    //Add node to the queue
+                    queue.add(nextIndex);
+                }
+                else
+                {
+                    work.duplicates++;
+                }
+            }
+
+            //Everything queued now is the next depth
+            if (queue.isLevelDone())
+            {
+                work.endLevel(queue.size());
+            }
+        }
+
+        return StateTable.NO_PARENT;
+    }
+
+    /**
+     * Follows parent indices from a state back to the start. Under
+     * PathStorage.REVERSE_MOVES every step undoes the move stored for a
+     * state and looks the state before it up.
+     *
+     * @param work the workspace the search ran in
+     * @param index the index of the last state of the path
+     * @return the moves leading from the start to that state, packed as
+     * MoveList packs them
+     */
+    static int[] reconstructPath(SearchWorkspace work, int index)
+    {
+        StateTable moves = work.states;
+        int length = pathLength(work, index);
+
+        // walk back from the last move to the first, filling from the end
+        int[] path = new int[length];
+        int currentMove = index;
+
+        for (int k = length - 1; k >= 0; k--)
+        {
+            int parentMove = moves.parent(currentMove);
+            path[k] = moveCode(work.packed, moves.key(parentMove),
+                moves.key(currentMove));
+            currentMove = parentMove;
+        }
+
+        return path;
+    }
+
+    /**
+     * Counts the parents between a state and the start.
+     *
+     * @param work the workspace the search ran in
+     * @param index the index of the last state of the path
+     * @return the number of moves leading from the start to that state
+     */
+    static int pathLength(SearchWorkspace work, int index)
+    {
+        StateTable moves = work.states;
+        int length = 0;
+
+        for (int current = index;
+            moves.parent(current) != StateTable.NO_PARENT;
+            current = moves.parent(current))
+        {
+            length++;
+        }
+
+        return length;
+    }
+
+    /**
+     * Packs the move that leads from one packed state to its neighbor.
+     *
+     * @param packed the packed board the states belong to
+     * @param from the packed state before the move
+     * @param to the packed state after the move
+     * @return the move of the only vehicle whose position differs, packed as
+     * MoveList packs it
+     */
+    static int moveCode(PackedBoard packed, long from, long to)
+    {
+        int i = packed.movedVehicle(from, to);
+
+        return MoveList.encode(i, packed.offset(to, i)
+            - packed.offset(from, i));
+    }
+
+    /**
+     * Builds the Move that leads from one packed state to its neighbor.
+     *
+     * @param packed the packed board the states belong to
+     * @param puzzle the puzzle whose vehicles the states place
+     * @param from the packed state before the move
+     * @param to the packed state after the move
+     * @return the move of the only vehicle whose position differs
+     */
+    static Move moveBetween(PackedBoard packed, Puzzle puzzle, long from,
+        long to)
+    {
+        return MoveList.toMove(moveCode(packed, from, to), puzzle);
+    }
+}
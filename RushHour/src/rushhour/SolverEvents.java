@@ -0,0 +1,93 @@
+/**
+ * This class emits the solver's Java Flight Recorder events, when it can.
+ *
+ * @version 1.0
+ *
+ * File: SolverEvents.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: Parsing a puzzle, every level of a search, rebuilding the
+ * path and handing the solution to the GameBoard are each wrapped in a
+ * begin and a commit here. Once the Flight Recorder has been started these
+ * are the events of FlightRecorderEvents, which cost next to nothing unless
+ * a recording has them enabled. Until then begin returns null and commit
+ * ignores it: loading the first event class starts up the whole recorder,
+ * which takes longer than solving most puzzles. On a JVM without jdk.jfr
+ * FlightRecorderEvents is never loaded at all.
+ */
+
+package rushhour;
+
+class SolverEvents
+{
+    /**
+     * Reading a puzzle from a file.
+     */
+    static final int PARSE = 0;
+
+    /**
+     * One level of a search.
+     */
+    static final int LEVEL = 1;
+
+    /**
+     * Turning the solved state into moves.
+     */
+    static final int PATH = 2;
+
+    /**
+     * Handing the solution to the GameBoard.
+     */
+    static final int HANDOFF = 3;
+
+    // whether jdk.jfr exists, found once when the class is loaded
+    private static final boolean AVAILABLE = isAvailable();
+
+    /**
+     * Starts timing a phase.
+     *
+     * @param phase PARSE, LEVEL, PATH or HANDOFF
+     * @return the event to commit when the phase ends, or null if the
+     * Flight Recorder is missing or has not been started
+     */
+    static Object begin(int phase)
+    {
+        return (AVAILABLE && FlightRecorderEvents.isStarted())
+            ? FlightRecorderEvents.begin(phase)
+            : null;
+    }
+
+    /**
+     * Ends a phase, recording it if a recording wants it.
+     *
+     * @param event what begin returned
+     * @param puzzle the name of the puzzle
+     * @param depth the depth reached
+     * @param frontier the states waiting to be expanded
+     * @param visited the states visited
+     */
+    static void commit(Object event, String puzzle, int depth, int frontier,
+        int visited)
+    {
+        if (event != null)
+        {
+            FlightRecorderEvents.commit(event, puzzle, depth, frontier,
+                visited);
+        }
+    }
+
+    private static boolean isAvailable()
+    {
+        try
+        {
+            Class.forName("jdk.jfr.Event");
+            return true;
+        }
+        catch (ClassNotFoundException | LinkageError ex)
+        {
+            return false;
+        }
+    }
+}
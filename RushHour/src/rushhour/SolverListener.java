@@ -0,0 +1,43 @@
+/**
+ * This interface is told how a Solver is getting on while it searches.
+ *
+ * @version 1.0
+ *
+ * File: SolverListener.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: A Solver given a SolverListener calls it at the end of every
+ * level of a search and once more when a puzzle is solved. The calls are
+ * made on the thread solving the puzzle, and a Solver may be solving puzzles
+ * on many threads at once, so implementations must be thread safe. They
+ * should also be quick, since the search waits for them.
+ */
+
+package rushhour;
+
+public interface SolverListener
+{
+    /**
+     * Called when a search has finished a level: one depth of a breadth
+     * first search, or one bound of A* or IDA*.
+     *
+     * @param puzzle the puzzle being solved
+     * @param level the number of the level, starting at 0
+     * @param nodes the states expanded in the level
+     * @param frontier the states waiting to be expanded as the level ends
+     * @param elapsedNanos the time the level took, in nanoseconds
+     */
+    void levelFinished(Puzzle puzzle, int level, int nodes, int frontier,
+        long elapsedNanos);
+
+    /**
+     * Called when a puzzle has been solved, or found to have no solution,
+     * whether by searching or from a SolutionStore.
+     *
+     * @param puzzle the puzzle
+     * @param result the result, with the statistics of the search
+     */
+    void solveFinished(Puzzle puzzle, SolveResult result);
+}
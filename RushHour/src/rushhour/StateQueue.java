@@ -0,0 +1,137 @@
+/**
+ * This class is the breadth first search frontier for the Rush Hour game.
+ *
+ * @version 1.0
+ *
+ * File: StateQueue.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: This class is a growable ring buffer of state indices. It also
+ * keeps track of where one level of the search ends and the next begins, so
+ * the solver knows the depth of the state it just polled without storing a
+ * depth for every state.
+ */
+
+package rushhour;
+
+public class StateQueue
+{
+    public StateQueue(int capacity)
+    {
+        this.items = new int[Integer.highestOneBit(Math.max(capacity, 16) * 2
+            - 1)];
+        this.head = 0;
+        this.size = 0;
+        this.depth = -1;
+        this.levelRemaining = 0;
+    }
+
+    private int[] items;
+    private int head;
+    private int size;
+    private int depth;
+    private int levelRemaining;
+
+    /**
+     * Adds a state index to the back of the queue.
+     *
+     * @param index the state index
+     */
+    public void add(int index)
+    {
+        if (this.size == this.items.length)
+        {
+            this.grow();
+        }
+
+        this.items[(this.head + this.size) & (this.items.length - 1)] = index;
+        this.size++;
+    }
+
+    /**
+     * Removes the state index at the front of the queue.
+     *
+     * @return the state index
+     *
+     * The queue must not be empty.
+     */
+    public int poll()
+    {
+        // everything still queued once a level is used up is the next level
+        if (this.levelRemaining == 0)
+        {
+            this.depth++;
+            this.levelRemaining = this.size;
+        }
+
+        int index = this.items[this.head];
+
+        this.head = (this.head + 1) & (this.items.length - 1);
+        this.size--;
+        this.levelRemaining--;
+
+        return index;
+    }
+
+    /**
+     * Gets the depth of the state index most recently polled.
+     *
+     * @return the number of moves from the first state added, or -1 if
+     * nothing has been polled
+     *
+     * This assumes every index added while polling level n belongs to level
+     * n + 1, which is how a breadth first search uses the queue.
+     */
+    public int depth()
+    {
+        return this.depth;
+    }
+
+    /**
+     * Tells whether the state index most recently polled was the last one of
+     * its level.
+     *
+     * @return true if the next poll starts a new level
+     */
+    public boolean isLevelDone()
+    {
+        return this.levelRemaining == 0;
+    }
+
+    /**
+     * Tells whether the queue is empty.
+     *
+     * @return true if there is nothing to poll
+     */
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    /**
+     * Gets the number of queued state indices.
+     *
+     * @return the size of the queue
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Doubles the capacity of the ring, unwrapping it in the process.
+     */
+    private void grow()
+    {
+        int[] bigger = new int[this.items.length * 2];
+        int firstPart = this.items.length - this.head;
+
+        System.arraycopy(this.items, this.head, bigger, 0, firstPart);
+        System.arraycopy(this.items, 0, bigger, firstPart, this.head);
+
+        this.items = bigger;
+        this.head = 0;
+    }
+}
@@ -0,0 +1,292 @@
+/**
+ * This class stores the packed states reached during a solve.
+ *
+ * @version 1.0
+ *
+ * File: StateTable.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: This class is an open-addressing hash table keyed by packed
+ * states. Every state that is added gets the next index, and the state and
+ * the index of its parent are stored in flat arrays under that index. The
+ * hash slots only hold indices, so there are no boxed keys and no per-entry
+ * objects. The move that led to a state is not stored because it can be found
+ * by comparing the state with its parent.
+ *
+ * A table made with PathStorage.REVERSE_MOVES keeps a byte per state instead
+ * of a parent index: the move that reached the state, as
+ * PackedBoard.reverseMove packs it. The parent is found by undoing that move
+ * and looking the result up, so add, parent and setParent behave the same
+ * either way and no search has to know which kind of table it was given. A
+ * table made with PathStorage.NONE keeps nothing but the states, and cannot
+ * give parents at all.
+ */
+
+package rushhour;
+
+import java.util.Arrays;
+
+public class StateTable
+{
+    public StateTable(int expectedStates)
+    {
+        this(expectedStates, PathStorage.PARENTS);
+    }
+
+    public StateTable(int expectedStates, PathStorage storage)
+    {
+        int capacity = Math.max(expectedStates, 16);
+
+        this.keys = new long[capacity];
+        this.parents = (storage == PathStorage.PARENTS)
+            ? new int[capacity]
+            : null;
+        this.moves = (storage == PathStorage.REVERSE_MOVES)
+            ? new byte[capacity]
+            : null;
+        this.slots = new int[tableSizeFor(capacity)];
+        this.size = 0;
+    }
+
+    /**
+     * The parent index of a state that has no parent.
+     */
+    public static final int NO_PARENT = -1;
+
+    private long[] keys;
+
+    // At most one of these is used, as the PathStorage asked for
+    private int[] parents;
+    private byte[] moves;
+
+    // Each slot holds a state index plus one, so that 0 means empty.
+    private int[] slots;
+    private int size;
+
+    /**
+     * Adds a state to the table if it is not already there.
+     *
+     * @param key the packed state
+     * @param parent the index of the state it was reached from, or NO_PARENT
+     * @return the index of the new state, or -1 if it was already in the table
+     */
+    public int add(long key, int parent)
+    {
+        int mask = this.slots.length - 1;
+        int slot = hash(key) & mask;
+
+        while (this.slots[slot] != 0)
+        {
+            if (this.keys[this.slots[slot] - 1] == key)
+            {
+                return -1;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        int index = this.size;
+
+        if (index == this.keys.length)
+        {
+            this.keys = Arrays.copyOf(this.keys, index * 2);
+
+            if (this.parents != null)
+            {
+                this.parents = Arrays.copyOf(this.parents, index * 2);
+            }
+            else if (this.moves != null)
+            {
+                this.moves = Arrays.copyOf(this.moves, index * 2);
+            }
+        }
+
+        this.keys[index] = key;
+        this.setParent(index, parent);
+        this.slots[slot] = index + 1;
+        this.size++;
+
+        // keep the table at most half full so probe runs stay short
+        if (this.size * 2 > this.slots.length)
+        {
+            this.rehash(this.slots.length * 2);
+        }
+
+        return index;
+    }
+
+    /**
+     * Finds the index of a state.
+     *
+     * @param key the packed state
+     * @return the index of the state, or -1 if it is not in the table
+     */
+    public int indexOf(long key)
+    {
+        int mask = this.slots.length - 1;
+        int slot = hash(key) & mask;
+
+        while (this.slots[slot] != 0)
+        {
+            int index = this.slots[slot] - 1;
+
+            if (this.keys[index] == key)
+            {
+                return index;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Tells whether a state is in the table.
+     *
+     * @param key the packed state
+     * @return true if the state has been added
+     */
+    public boolean contains(long key)
+    {
+        return this.indexOf(key) >= 0;
+    }
+
+    /**
+     * Gets the state stored under an index.
+     *
+     * @param index the index returned by add
+     * @return the packed state
+     */
+    public long key(int index)
+    {
+        return this.keys[index];
+    }
+
+    /**
+     * Gets the parent index stored under an index.
+     *
+     * @param index the index returned by add
+     * @return the index of the parent state, or NO_PARENT
+     * @throws IllegalStateException if the table keeps no paths
+     */
+    public int parent(int index)
+    {
+        if (this.parents != null)
+        {
+            return this.parents[index];
+        }
+
+        if (this.moves == null)
+        {
+            throw new IllegalStateException(
+                "This table keeps no parents");
+        }
+
+        byte move = this.moves[index];
+
+        return (move == PackedBoard.NO_MOVE)
+            ? NO_PARENT
+            : this.indexOf(PackedBoard.undoMove(this.keys[index], move));
+    }
+
+    /**
+     * Changes the parent index stored under an index.
+     *
+     * @param index the index returned by add
+     * @param parent the index of a state reached sooner than the old parent
+     *
+     * Used by searches that can find a shorter way to a state after adding
+     * it.
+     */
+    public void setParent(int index, int parent)
+    {
+        if (this.parents != null)
+        {
+            this.parents[index] = parent;
+        }
+        else if (this.moves != null)
+        {
+            this.moves[index] = (parent == NO_PARENT)
+                ? PackedBoard.NO_MOVE
+                : PackedBoard.reverseMove(this.keys[parent],
+                    this.keys[index]);
+        }
+    }
+
+    /**
+     * Gets the number of states in the table.
+     *
+     * @return the number of states
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Gets the number of hash slots, which the table keeps at least twice
+     * the number of states.
+     *
+     * @return the number of slots
+     */
+    public int capacity()
+    {
+        return this.slots.length;
+    }
+
+    /**
+     * Rebuilds the hash slots with a new size.
+     *
+     * @param newSize the new number of slots, a power of two
+     */
+    private void rehash(int newSize)
+    {
+        int[] newSlots = new int[newSize];
+        int mask = newSize - 1;
+
+        for (int index = 0; index < this.size; index++)
+        {
+            int slot = hash(this.keys[index]) & mask;
+
+            while (newSlots[slot] != 0)
+            {
+                slot = (slot + 1) & mask;
+            }
+
+            newSlots[slot] = index + 1;
+        }
+
+        this.slots = newSlots;
+    }
+
+    /**
+     * Spreads the bits of a packed state over an int.
+     *
+     * @param key the packed state
+     * @return the hash of the state
+     *
+     * Packed states differ mostly in their low bits, so the bits are mixed
+     * before they are masked down to a slot.
+     */
+    static int hash(long key)
+    {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+    /**
+     * Finds the number of hash slots for a number of states.
+     *
+     * @param states the number of states
+     * @return a power of two at least twice the number of states
+     */
+    private static int tableSizeFor(int states)
+    {
+        return Integer.highestOneBit(Math.max(states, 8) * 4 - 1);
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * This class is the transposition table of the IDA* search.
+ *
+ * @version 1.0
+ *
+ * File: TranspositionTable.java Created: 18 October 2026
+ *
+ * Copyright Cedarville University, its Computer Science faculty, and the
+ * authors. All rights reserved.
+ *
+ * Description: The states are kept in a StateTable that keeps no paths, and
+ * two flat arrays indexed the same way keep, for every state, the fewest
+ * moves any path has reached it by, in this iteration or any before, and the
+ * last iteration that reached it. Starting an iteration is then just counting
+ * up instead of clearing the table.
+ *
+ * The table starts small and grows with the states the search reaches, so a
+ * small cluster of states never pays for a big table. Once it holds
+ * MAX_STATES states no more are added: a state that is not in the table is
+ * simply searched again by every path that reaches it, which only costs time.
+ */
+
+package rushhour;
+
+import java.util.Arrays;
+
+class TranspositionTable
+{
+    TranspositionTable()
+    {
+        this.states = new StateTable(1024, PathStorage.NONE);
+        this.moves = new int[1024];
+        this.iterations = new int[1024];
+        this.iteration = 0;
+        this.stamped = 0;
+    }
+
+    /**
+     * The most states the table keeps, about 24 MB of them.
+     */
+    static final int MAX_STATES = 1 << 20;
+
+    final private StateTable states;
+
+    // The fewest moves to every state, and the last iteration to reach it
+    private int[] moves;
+    private int[] iterations;
+
+    // The current iteration, and the states it has reached
+    private int iteration;
+    private int stamped;
+
+    /**
+     * Starts the next iteration, so that no state has been reached in it.
+     */
+    void nextIteration()
+    {
+        this.iteration++;
+        this.stamped = 0;
+    }
+
+    /**
+     * Gets the number of states reached in this iteration.
+     *
+     * @return the states the iteration reached that are in the table
+     */
+    int stamped()
+    {
+        return this.stamped;
+    }
+
+    /**
+     * Gets the number of states the table has room for before it grows.
+     *
+     * @return the capacity of the state table
+     */
+    int capacity()
+    {
+        return this.states.capacity();
+    }
+
+    /**
+     * Tells whether a path reaching a state need not be searched any further,
+     * because some other path already reached it with fewer moves or, in
+     * this iteration, with as few.
+     *
+     * @param state the packed state
+     * @param stateMoves the moves of the path reaching it now
+     * @return true if the state should not be searched from again
+     */
+    boolean isBeaten(long state, int stateMoves)
+    {
+        int index = this.states.indexOf(state);
+
+        return (index >= 0)
+            && ((this.moves[index] < stateMoves)
+                || ((this.moves[index] == stateMoves)
+                    && (this.iterations[index] == this.iteration)));
+    }
+
+    /**
+     * Records that this iteration reached a state.
+     *
+     * @param state the packed state
+     * @param stateMoves the moves of the path reaching it
+     */
+    void reach(long state, int stateMoves)
+    {
+        int index = this.states.indexOf(state);
+
+        if (index < 0)
+        {
+            if (this.states.size() == MAX_STATES)
+            {
+                return;
+            }
+
+            index = this.states.add(state, StateTable.NO_PARENT);
+
+            if (index == this.moves.length)
+            {
+                this.moves = Arrays.copyOf(this.moves, index * 2);
+                this.iterations = Arrays.copyOf(this.iterations, index * 2);
+            }
+
+            this.moves[index] = stateMoves;
+        }
+
+        if (this.iterations[index] != this.iteration)
+        {
+            this.iterations[index] = this.iteration;
+            this.stamped++;
+        }
+
+        this.moves[index] = Math.min(this.moves[index], stateMoves);
+    }
+}
@@ -27,27 +27,7 @@ public class Vehicle
     {
         this.colorString = color;
 
-        this.colorMap = new HashMap<>();
-
-        // map all possible colors
-        // used for drawing the Vehicle on the GameBoard
-        this.colorMap.put("red", Color.red);
-        this.colorMap.put("lime", Color.decode("0x66FF66"));
-        this.colorMap.put("purple", Color.decode("0x660198"));
-        this.colorMap.put("orange", Color.decode("0xFF6600"));
-        this.colorMap.put("blue", Color.decode("0x003EFF"));
-        this.colorMap.put("yellow", Color.yellow);
-        this.colorMap.put("lightblue", Color.decode("0x66CCFF"));
-        this.colorMap.put("aqua", Color.decode("0x66CCCC"));
-        this.colorMap.put("violet", Color.decode("0xBF5FFF"));
-        this.colorMap.put("pink", Color.decode("0xFF00FF"));
-        this.colorMap.put("black", Color.black);
-        this.colorMap.put("camo", Color.decode("0x996633"));
-        this.colorMap.put("green", Color.decode("0x009933"));
-
-        this.color = this.colorMap.get(color);
-
-        if (this.color == null)
+        if (!COLORS.containsKey(color))
         {
             throw new VehicleConstructorError(color + " is not a valid color!");
         }
@@ -84,10 +64,61 @@ public class Vehicle
         }
     }
 
+    /**
+     * Creates a copy of a vehicle at the same position.
+     *
+     * @param other the vehicle to copy
+     */
+    public Vehicle(Vehicle other)
+    {
+        this.type = other.type;
+        this.colorString = other.colorString;
+        this.length = other.length;
+        this.orientation = other.orientation;
+        this.x = other.x;
+        this.y = other.y;
+    }
+
+    // map all possible colors to their RGB values
+    // used for drawing the Vehicle on the GameBoard
+    private static final HashMap<String, Integer> COLORS = new HashMap<>();
+
+    static
+    {
+        COLORS.put("red", 0xFF0000);
+        COLORS.put("lime", 0x66FF66);
+        COLORS.put("purple", 0x660198);
+        COLORS.put("orange", 0xFF6600);
+        COLORS.put("blue", 0x003EFF);
+        COLORS.put("yellow", 0xFFFF00);
+        COLORS.put("lightblue", 0x66CCFF);
+        COLORS.put("aqua", 0x66CCCC);
+        COLORS.put("violet", 0xBF5FFF);
+        COLORS.put("pink", 0xFF00FF);
+        COLORS.put("black", 0x000000);
+        COLORS.put("camo", 0x996633);
+        COLORS.put("green", 0x009933);
+        COLORS.put("brown", 0x8B4513);
+        COLORS.put("gray", 0x808080);
+        COLORS.put("navy", 0x000080);
+        COLORS.put("teal", 0x008080);
+        COLORS.put("maroon", 0x800000);
+        COLORS.put("olive", 0x808000);
+        COLORS.put("gold", 0xFFD700);
+        COLORS.put("silver", 0xC0C0C0);
+    }
+
+    // every valid color, numbered in this order by binary puzzle files, so
+    // new colors may only ever be added at the end
+    static final String[] COLOR_NAMES = {
+        "red", "lime", "purple", "orange", "blue", "yellow", "lightblue",
+        "aqua", "violet", "pink", "black", "camo", "green", "brown", "gray",
+        "navy", "teal", "maroon", "olive", "gold", "silver"
+    };
+
     final private String type;
-    final private Color color;
+    private Color color;
     final private String colorString;
-    final private HashMap<String, Color> colorMap;
     final private int length;
     final private String orientation;
     private int x;
@@ -107,10 +138,16 @@ public class Vehicle
      * 
      * @return the Color class value of the vehicle
      * 
-     * Used for GUI car drawing
+     * Used for GUI car drawing. The Color is only created the first time it
+     * is asked for, so that solving never loads the AWT.
      */
     public Color colorValue()
     {
+        if (this.color == null)
+        {
+            this.color = new Color(COLORS.get(this.colorString));
+        }
+
         return this.color;
     }
 